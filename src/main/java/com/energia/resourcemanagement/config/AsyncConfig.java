@@ -0,0 +1,64 @@
+package com.energia.resourcemanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    @Value("${export.executor.pool-size:2}")
+    private int exportPoolSize;
+
+    @Value("${export.executor.queue-capacity:20}")
+    private int exportQueueCapacity;
+
+    @Value("${export.parallel.max-workers:4}")
+    private int maxExportWorkers;
+
+    // Dedicated pool so long-running exports never occupy request threads
+    @Bean
+    public ThreadPoolTaskExecutor exportTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(exportPoolSize);
+        executor.setMaxPoolSize(exportPoolSize);
+        executor.setQueueCapacity(exportQueueCapacity);
+        executor.setThreadNamePrefix("export-");
+        return executor;
+    }
+
+    // Range scanners of parallel export jobs. The queue holds the workers of every job the export
+    // pool can run at once; ParallelExportCoordinator's connection budget limits how many really do.
+    @Bean
+    public ThreadPoolTaskExecutor exportWorkerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxExportWorkers);
+        executor.setMaxPoolSize(maxExportWorkers);
+        executor.setQueueCapacity(maxExportWorkers * exportPoolSize);
+        executor.setThreadNamePrefix("export-worker-");
+        return executor;
+    }
+
+    // Runs the @Scheduled jobs without an explicit scheduler (export heartbeats, stats reconciliation,
+    // deletion log pruning), sized by spring.task.scheduling.pool.size. Declared here because Spring Boot
+    // backs off its own once any TaskScheduler bean exists.
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    // The outbox relay blocks on broker acknowledgements, for up to send-timeout-ms per batch during an
+    // outage; on its own thread it cannot hold back export heartbeats past export.job.stale-after-ms
+    @Bean
+    public ThreadPoolTaskScheduler outboxRelayScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("outbox-relay-");
+        return scheduler;
+    }
+}
@@ -1,5 +1,7 @@
 package com.energia.resourcemanagement.config;
 
+import com.energia.resourcemanagement.kafka.serialization.PayloadFormat;
+import com.energia.resourcemanagement.kafka.serialization.ResourcePayloadSerializer;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
@@ -9,7 +11,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -23,19 +24,28 @@ public class KafkaConfig {
     @Value("${kafka.topic.resource-events}")
     private String resourceEventsTopic;
 
+    @Value("${kafka.payload.format:json}")
+    private String payloadFormat;
+
+    // none, gzip, snappy, lz4 or zstd
+    @Value("${kafka.producer.compression-type:none}")
+    private String compressionType;
+
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
         configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
         configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 16384);
         configProps.put(ProducerConfig.LINGER_MS_CONFIG, 10);
         configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, 33554432);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+        PayloadFormat format = PayloadFormat.valueOf(payloadFormat.toUpperCase());
+        return new DefaultKafkaProducerFactory<>(configProps,
+                new StringSerializer(), new ResourcePayloadSerializer(format));
     }
 
     @Bean
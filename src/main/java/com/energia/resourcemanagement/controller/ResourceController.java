@@ -1,26 +1,61 @@
 package com.energia.resourcemanagement.controller;
 
+import com.energia.resourcemanagement.domain.enums.CharacteristicType;
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+import com.energia.resourcemanagement.dto.request.BatchGetRequest;
+import com.energia.resourcemanagement.dto.request.BatchMutationRequest;
+import com.energia.resourcemanagement.dto.request.CharacteristicFilterRequest;
+import com.energia.resourcemanagement.dto.request.CharacteristicValueRequest;
 import com.energia.resourcemanagement.dto.request.CreateResourceRequest;
+import com.energia.resourcemanagement.dto.request.DeleteResourcesRequest;
+import com.energia.resourcemanagement.dto.request.ExportJobRequest;
 import com.energia.resourcemanagement.dto.request.UpdateResourceRequest;
+import com.energia.resourcemanagement.dto.response.BatchGetResponse;
+import com.energia.resourcemanagement.dto.response.BatchMutationResponse;
+import com.energia.resourcemanagement.dto.response.BulkCreateSummary;
+import com.energia.resourcemanagement.dto.response.CharacteristicResponse;
+import com.energia.resourcemanagement.dto.response.CursorPageResponse;
+import com.energia.resourcemanagement.dto.response.DeleteResourcesResponse;
+import com.energia.resourcemanagement.dto.response.ExportJobResponse;
 import com.energia.resourcemanagement.dto.response.ResourceResponse;
+import com.energia.resourcemanagement.dto.response.ResourceStatsResponse;
+import com.energia.resourcemanagement.dto.response.SliceResponse;
+import com.energia.resourcemanagement.service.ExportJobService;
 import com.energia.resourcemanagement.service.ResourceService;
+import com.energia.resourcemanagement.service.projection.FieldSelection;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @Slf4j
 @RestController
@@ -28,7 +63,13 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ResourceController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
     private final ResourceService resourceService;
+    private final ExportJobService exportJobService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<ResourceResponse> createResource(@Valid @RequestBody CreateResourceRequest request) {
@@ -40,36 +81,257 @@ public class ResourceController {
         return ResponseEntity.created(location).body(response);
     }
 
+    // The array is parsed while it arrives and per-item results stream back as NDJSON, in the order items
+    // are settled: rejected ones at once, the rest per inserted chunk. The last line is the summary.
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> createResources(InputStream items) {
+        log.info("POST /api/v1/resources/bulk - Bulk creating resources");
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream target = new BufferedOutputStream(outputStream, STREAM_BUFFER_SIZE);
+            ObjectWriter writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+
+            BulkCreateSummary summary = resourceService.createResources(items, result -> {
+                try {
+                    target.write(writer.writeValueAsBytes(result));
+                    target.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            target.write(writer.writeValueAsBytes(summary));
+            target.write('\n');
+            target.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    // Ordered creates, updates and deletes in one transaction; each operation reports its own outcome
+    @PostMapping("/batch")
+    public ResponseEntity<BatchMutationResponse> applyBatch(@Valid @RequestBody BatchMutationRequest request) {
+        log.info("POST /api/v1/resources/batch - Applying {} operations", request.getOperations().size());
+
+        return ResponseEntity.ok(resourceService.applyBatch(request.getOperations()));
+    }
+
+    // Many resources in one round trip; unknown ids come back in missingIds instead of failing the request
+    @PostMapping("/batch-get")
+    public ResponseEntity<BatchGetResponse> getResources(@Valid @RequestBody BatchGetRequest request) {
+        log.info("POST /api/v1/resources/batch-get - Fetching {} resources", request.getIds().size());
+
+        return ResponseEntity.ok(resourceService.getResources(request.getIds()));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ResourceResponse> getResource(@PathVariable UUID id) {
+    public ResponseEntity<ResourceResponse> getResource(@PathVariable UUID id,
+                                                        @RequestParam(required = false) String fields,
+                                                        WebRequest webRequest) {
         log.info("GET /api/v1/resources/{} - Fetching resource", id);
 
-        ResourceResponse response = resourceService.getResource(id);
-        return ResponseEntity.ok(response);
+        // A revalidation only needs the version, not the resource and its characteristics.
+        // The version read for it also tells the service whether its cached copy is current.
+        Long currentVersion = null;
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            currentVersion = resourceService.getResourceVersion(id);
+            if (webRequest.checkNotModified(resourceETag(id, currentVersion))) {
+                return null;
+            }
+        }
+
+        ResourceResponse response = resourceService.getResource(id, fields, currentVersion);
+        return ResponseEntity.ok()
+                .eTag(resourceETag(id, response.getVersion()))
+                .body(response);
     }
 
     @GetMapping
     public ResponseEntity<Page<ResourceResponse>> getAllResources(
             @RequestParam(required = false) String countryCode,
             @RequestParam(required = false) String type,
-            @ParameterObject @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @Valid @ParameterObject CharacteristicFilterRequest characteristics,
+            @RequestParam(required = false) String fields,
+            @ParameterObject @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
+
+        log.info("GET /api/v1/resources - Fetching resources with filters: countryCode={}, type={}, {}",
+                countryCode, type, characteristics);
+
+        // Read before the page itself: the page is then never older than the tag it is served with
+        String eTag = collectionETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        Page<ResourceResponse> resources = resourceService.getAllResources(countryCode, type, characteristics, fields, pageable);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(resources);
+    }
+
+    // Slice mode: hasNext instead of the per-page COUNT(*), with an optional cached rough total
+    @GetMapping(params = {"slice=true", "!after"})
+    public ResponseEntity<SliceResponse<ResourceResponse>> getResourceSlice(
+            @RequestParam(required = false) String countryCode,
+            @RequestParam(required = false) String type,
+            @Valid @ParameterObject CharacteristicFilterRequest characteristics,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "false") boolean approximateTotal,
+            @ParameterObject @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
+
+        log.info("GET /api/v1/resources - Fetching resource slice with filters: countryCode={}, type={}, {}",
+                countryCode, type, characteristics);
+
+        String eTag = collectionETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        SliceResponse<ResourceResponse> resources =
+                resourceService.getResourceSlice(countryCode, type, characteristics, fields, pageable, approximateTotal);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(resources);
+    }
+
+    // Keyset mode: an empty after starts at the newest resource, each page hands out the next cursor
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPageResponse<ResourceResponse>> getResourcesAfter(
+            @RequestParam(required = false) String countryCode,
+            @RequestParam(required = false) String type,
+            @Valid @ParameterObject CharacteristicFilterRequest characteristics,
+            @RequestParam(required = false) String fields,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+
+        log.info("GET /api/v1/resources - Fetching resources after cursor {} with filters: countryCode={}, type={}, {}",
+                after, countryCode, type, characteristics);
+
+        String eTag = collectionETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        CursorPageResponse<ResourceResponse> resources =
+                resourceService.getResourcesAfter(countryCode, type, characteristics, fields, after, pageSize);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(resources);
+    }
+
+    // Streaming mode: the page is written as a compact JSON array while it is read from a database cursor,
+    // so memory use does not grow with the page size and no page size limit applies
+    @GetMapping(params = {"stream=true", "!slice", "!after"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamResourcePage(
+            @RequestParam(required = false) String countryCode,
+            @RequestParam(required = false) String type,
+            @Valid @ParameterObject CharacteristicFilterRequest characteristics,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @SortDefault(sort = "createdAt", direction = Sort.Direction.DESC) Sort sort) {
+
+        log.info("GET /api/v1/resources - Streaming page {} of size {} with filters: countryCode={}, type={}, {}, " +
+                "fields: {}", page, size, countryCode, type, characteristics, fields);
+
+        // Resolved before streaming starts, while an error can still become a proper response
+        ResourceType resourceType = type != null ? ResourceType.valueOf(type) : null;
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1), sort);
+        FieldSelection selection = FieldSelection.parse(fields);
+
+        StreamingResponseBody body = outputStream -> {
+            ObjectWriter writer = objectMapper.writerFor(ResourceResponse.class)
+                    .without(SerializationFeature.INDENT_OUTPUT)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            JsonGenerator generator = objectMapper.getFactory()
+                    .createGenerator(new BufferedOutputStream(outputStream, STREAM_BUFFER_SIZE));
+
+            generator.writeStartArray();
+            resourceService.streamResourcePage(countryCode, resourceType, characteristics, selection, pageable,
+                    resource -> {
+                        try {
+                            writer.writeValue(generator, resource);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+            generator.writeEndArray();
+            generator.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    // Counts by country, type and characteristic type from trigger-maintained counters
+    @GetMapping("/stats")
+    public ResponseEntity<ResourceStatsResponse> getStats() {
+        log.info("GET /api/v1/resources/stats - Fetching resource statistics");
+
+        return ResponseEntity.ok(resourceService.getStats());
+    }
+
+    // One JSON document per line straight from a database cursor; gzipped when the client accepts it
+    @GetMapping(value = "/export.ndjson", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportNdjson(
+            @RequestParam(required = false) String countryCode,
+            @RequestParam(required = false) String type,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
-        log.info("GET /api/v1/resources - Fetching resources with filters: countryCode={}, type={}",
+        log.info("GET /api/v1/resources/export.ndjson - Streaming resources with filters: countryCode={}, type={}",
                 countryCode, type);
 
-        Page<ResourceResponse> resources = resourceService.getAllResources(countryCode, type, pageable);
-        return ResponseEntity.ok(resources);
+        // Resolved before streaming starts, while an error can still become a proper response
+        ResourceType resourceType = type != null ? ResourceType.valueOf(type) : null;
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream target = gzip
+                    ? new GZIPOutputStream(outputStream, STREAM_BUFFER_SIZE)
+                    : new BufferedOutputStream(outputStream, STREAM_BUFFER_SIZE);
+            ObjectWriter writer = objectMapper.writerFor(ResourceResponse.class)
+                    .without(SerializationFeature.INDENT_OUTPUT);
+
+            resourceService.streamResources(countryCode, resourceType, resource -> {
+                try {
+                    target.write(writer.writeValueAsBytes(resource));
+                    target.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+            target.flush();
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ResourceResponse> updateResource(
             @PathVariable UUID id,
             @Valid @RequestBody UpdateResourceRequest request,
-            @RequestHeader(value = "If-Match", required = false) Long version) {
+            @RequestHeader(value = "If-Match", required = false) String ifMatch) {
 
         log.info("PUT /api/v1/resources/{} - Updating resource", id);
 
-        ResourceResponse response = resourceService.updateResource(id, request, version);
+        ResourceResponse response = resourceService.updateResource(id, request, ResourceETag.parseIfMatch(id, ifMatch));
         return ResponseEntity.ok(response);
     }
 
@@ -81,19 +343,97 @@ public class ResourceController {
         return ResponseEntity.noContent().build();
     }
 
+    @PutMapping("/{id}/characteristics/{type}/{code}")
+    public ResponseEntity<CharacteristicResponse> putCharacteristic(
+            @PathVariable UUID id,
+            @PathVariable CharacteristicType type,
+            @PathVariable String code,
+            @Valid @RequestBody CharacteristicValueRequest request,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+
+        log.info("PUT /api/v1/resources/{}/characteristics/{}/{} - Setting characteristic", id, type, code);
+
+        CharacteristicResponse response = resourceService.putCharacteristic(id, type, code, request.getValue(),
+                ResourceETag.parseIfMatch(id, ifMatch));
+        return ResponseEntity.ok()
+                .eTag(resourceETag(id, response.getResourceVersion()))
+                .body(response);
+    }
+
+    @DeleteMapping("/{id}/characteristics/{type}/{code}")
+    public ResponseEntity<Void> deleteCharacteristic(
+            @PathVariable UUID id,
+            @PathVariable CharacteristicType type,
+            @PathVariable String code,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+
+        log.info("DELETE /api/v1/resources/{}/characteristics/{}/{} - Deleting characteristic", id, type, code);
+
+        long resourceVersion = resourceService.deleteCharacteristic(id, type, code, ResourceETag.parseIfMatch(id, ifMatch));
+        return ResponseEntity.noContent()
+                .eTag(resourceETag(id, resourceVersion))
+                .build();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<DeleteResourcesResponse> deleteResources(@Valid @ParameterObject DeleteResourcesRequest filter) {
+        log.info("DELETE /api/v1/resources - Deleting resources with countryCode={}, type={}, updatedBefore={}",
+                filter.getCountryCode(), filter.getType(), filter.getUpdatedBefore());
+
+        return ResponseEntity.ok(resourceService.deleteResources(filter));
+    }
+
     @PostMapping("/export-all")
-    public ResponseEntity<Map<String, Object>> exportAllResources() {
-        log.info("POST /api/v1/resources/export-all - Initiating bulk export");
+    public ResponseEntity<Map<String, Object>> exportAllResources(@Valid @ParameterObject ExportJobRequest request) {
+        log.info("POST /api/v1/resources/export-all - Initiating bulk export with workers={}, updatedSince={}, " +
+                        "watermark={}, countryCode={}, type={}", request.getWorkers(), request.getUpdatedSince(),
+                request.getWatermark(), request.getCountryCode(), request.getType());
 
-        long totalCount = resourceService.getTotalResourceCount();
-        resourceService.exportAllToKafka();
+        ExportJobResponse job = exportJobService.startExportJob(request);
 
         Map<String, Object> response = new HashMap<>();
         response.put("message", "Export initiated successfully");
-        response.put("totalResources", totalCount);
-        response.put("estimatedTime", "~" + (totalCount / 1000000) + " seconds");
-        response.put("jobId", UUID.randomUUID());
+        response.put("totalResources", job.getTotalResources());
+        response.put("estimatedTime", job.getEstimatedSecondsRemaining() != null
+                ? "~" + job.getEstimatedSecondsRemaining() + " seconds"
+                : "unknown");
+        response.put("jobId", job.getId());
+        response.put("workers", job.getWorkerCount());
+        response.put("mode", job.getMode());
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/v1/resources/export-jobs/" + job.getId()))
+                .body(response);
+    }
+
+    @GetMapping("/export-jobs/{jobId}")
+    public ResponseEntity<ExportJobResponse> getExportJob(@PathVariable UUID jobId) {
+        log.info("GET /api/v1/resources/export-jobs/{} - Fetching export job", jobId);
+
+        return ResponseEntity.ok(exportJobService.getExportJob(jobId));
+    }
+
+    @DeleteMapping("/export-jobs/{jobId}")
+    public ResponseEntity<ExportJobResponse> cancelExportJob(@PathVariable UUID jobId) {
+        log.info("DELETE /api/v1/resources/export-jobs/{} - Cancelling export job", jobId);
+
+        return ResponseEntity.ok(exportJobService.cancelExportJob(jobId));
+    }
+
+    @PostMapping("/export-jobs/{jobId}/resume")
+    public ResponseEntity<ExportJobResponse> resumeExportJob(@PathVariable UUID jobId) {
+        log.info("POST /api/v1/resources/export-jobs/{}/resume - Resuming export job", jobId);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/v1/resources/export-jobs/" + jobId))
+                .body(exportJobService.resumeExportJob(jobId));
+    }
+
+    private String collectionETag() {
+        return "\"resources-" + resourceService.getChangeCount() + "\"";
+    }
 
-        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    private static String resourceETag(UUID id, long version) {
+        return new ResourceETag(id, version).format();
     }
-}
\ No newline at end of file
+}
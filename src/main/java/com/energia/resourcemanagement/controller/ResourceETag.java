@@ -0,0 +1,34 @@
+package com.energia.resourcemanagement.controller;
+
+import com.energia.resourcemanagement.exception.InvalidIfMatchException;
+
+import java.util.UUID;
+
+// Strong entity tag of a resource version: "<id>-<version>".
+// If-Match takes the tag as sent in ETag, or the bare version number that earlier clients send.
+public record ResourceETag(UUID id, long version) {
+
+    public String format() {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    // null when the header is absent or "*", meaning the write does not check the version
+    public static Long parseIfMatch(UUID id, String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        String value = header.trim();
+        try {
+            if (!value.startsWith("\"")) {
+                return Long.parseLong(value);
+            }
+            String prefix = "\"" + id + "-";
+            if (value.length() > prefix.length() && value.startsWith(prefix) && value.endsWith("\"")) {
+                return Long.parseLong(value.substring(prefix.length(), value.length() - 1));
+            }
+        } catch (NumberFormatException e) {
+            throw new InvalidIfMatchException(header);
+        }
+        throw new InvalidIfMatchException(header);
+    }
+}
@@ -0,0 +1,42 @@
+package com.energia.resourcemanagement.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "export_checkpoints")
+@IdClass(ExportCheckpointId.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportCheckpoint {
+
+    @Id
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Id
+    @Column(name = "partition_index", nullable = false)
+    private int partitionIndex;
+
+    // Keyset cursor: every resource with a smaller id in this partition has been acknowledged by Kafka
+    @Column(name = "last_resource_id", nullable = false)
+    private UUID lastResourceId;
+
+    // Set for delta exports, whose keyset is (updated_at, id) or (deleted_at, id)
+    @Column(name = "last_updated_at")
+    private LocalDateTime lastUpdatedAt;
+
+    @Column(name = "rows_exported", nullable = false)
+    private long rowsExported;
+
+    @Column(name = "bytes_sent", nullable = false)
+    private long bytesSent;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,17 @@
+package com.energia.resourcemanagement.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportCheckpointId implements Serializable {
+
+    private UUID jobId;
+    private int partitionIndex;
+}
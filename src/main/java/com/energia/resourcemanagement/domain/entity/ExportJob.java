@@ -0,0 +1,97 @@
+package com.energia.resourcemanagement.domain.entity;
+
+import com.energia.resourcemanagement.domain.enums.ExportJobStatus;
+import com.energia.resourcemanagement.domain.enums.ExportMode;
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "export_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJob {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ExportJobStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mode", nullable = false, length = 10)
+    @Builder.Default
+    private ExportMode mode = ExportMode.FULL;
+
+    @Column(name = "worker_count", nullable = false)
+    @Builder.Default
+    private int workerCount = 1;
+
+    @Column(name = "total_resources", nullable = false)
+    private long totalResources;
+
+    @Column(name = "rows_exported", nullable = false)
+    private long rowsExported;
+
+    @Column(name = "bytes_sent", nullable = false)
+    private long bytesSent;
+
+    @Column(name = "failed_records", nullable = false)
+    private long failedRecords;
+
+    // Delta window (updatedSince, updatedUntil] and filters; null for full exports
+    @Column(name = "updated_since")
+    private LocalDateTime updatedSince;
+
+    @Column(name = "updated_until")
+    private LocalDateTime updatedUntil;
+
+    @Column(name = "country_code", length = 2)
+    private String countryCode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resource_type", length = 50)
+    private ResourceType resourceType;
+
+    // Consumer watermark advanced to updatedUntil when the job completes
+    @Column(name = "watermark_name", length = 100)
+    private String watermarkName;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    // Rows per second between start and finish (or now, while the job is still running)
+    public Double getThroughputPerSecond() {
+        if (startedAt == null) {
+            return null;
+        }
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long millis = Duration.between(startedAt, end).toMillis();
+        return millis > 0 ? rowsExported * 1000.0 / millis : null;
+    }
+}
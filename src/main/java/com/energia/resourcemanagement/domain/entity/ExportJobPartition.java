@@ -0,0 +1,60 @@
+package com.energia.resourcemanagement.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "export_job_partitions")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJobPartition {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "job_id", nullable = false, updatable = false)
+    private UUID jobId;
+
+    @Column(name = "partition_index", nullable = false, updatable = false)
+    private int partitionIndex;
+
+    @Column(name = "lower_bound", nullable = false, updatable = false)
+    private UUID lowerBound;
+
+    @Column(name = "upper_bound", nullable = false, updatable = false)
+    private UUID upperBound;
+
+    @Column(name = "rows_exported", nullable = false)
+    private long rowsExported;
+
+    @Column(name = "bytes_sent", nullable = false)
+    private long bytesSent;
+
+    @Column(name = "failed_records", nullable = false)
+    private long failedRecords;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public Double getThroughputPerSecond() {
+        if (startedAt == null) {
+            return null;
+        }
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long millis = Duration.between(startedAt, end).toMillis();
+        return millis > 0 ? rowsExported * 1000.0 / millis : null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.energia.resourcemanagement.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "export_watermarks")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportWatermark {
+
+    @Id
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    // Upper bound of the last completed delta export for this consumer
+    @Column(name = "watermark", nullable = false)
+    private LocalDateTime watermark;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,32 @@
+package com.energia.resourcemanagement.domain.entity;
+
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Written by the record_resources_deletion trigger, never by the application
+@Entity
+@Table(name = "resource_deletions")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceDeletion {
+
+    @Id
+    @Column(name = "resource_id", nullable = false, updatable = false)
+    private UUID resourceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, updatable = false, length = 50)
+    private ResourceType type;
+
+    @Column(name = "country_code", nullable = false, updatable = false, length = 2)
+    private String countryCode;
+
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+}
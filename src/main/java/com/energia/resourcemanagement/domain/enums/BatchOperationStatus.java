@@ -0,0 +1,10 @@
+package com.energia.resourcemanagement.domain.enums;
+
+public enum BatchOperationStatus {
+    CREATED,
+    UPDATED,
+    DELETED,
+    NOT_FOUND,
+    CONFLICT,
+    INVALID
+}
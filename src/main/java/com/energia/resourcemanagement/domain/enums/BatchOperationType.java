@@ -0,0 +1,7 @@
+package com.energia.resourcemanagement.domain.enums;
+
+public enum BatchOperationType {
+    CREATE,
+    UPDATE,
+    DELETE
+}
@@ -3,5 +3,8 @@ package com.energia.resourcemanagement.domain.enums;
 public enum EventType {
     RESOURCE_CREATED,
     RESOURCE_UPDATED,
-    RESOURCE_DELETED
+    RESOURCE_DELETED,
+    CHARACTERISTIC_CREATED,
+    CHARACTERISTIC_UPDATED,
+    CHARACTERISTIC_DELETED
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.energia.resourcemanagement.domain.enums;
+
+public enum ExportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
@@ -0,0 +1,25 @@
+package com.energia.resourcemanagement.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchMutationRequest {
+
+    public static final int MAX_OPERATIONS = 1000;
+
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = MAX_OPERATIONS, message = "At most " + MAX_OPERATIONS + " operations per request")
+    private List<@NotNull @Valid BatchOperation> operations;
+}
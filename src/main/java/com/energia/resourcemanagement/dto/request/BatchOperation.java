@@ -0,0 +1,33 @@
+package com.energia.resourcemanagement.dto.request;
+
+import com.energia.resourcemanagement.domain.enums.BatchOperationType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOperation {
+
+    @NotNull(message = "Operation is required")
+    private BatchOperationType op;
+
+    // Target of an UPDATE or DELETE
+    private UUID id;
+
+    // Optional expected version for an UPDATE or DELETE, as it was before the batch
+    private Long version;
+
+    @Valid
+    private CreateResourceRequest create;
+
+    @Valid
+    private UpdateResourceRequest update;
+}
@@ -0,0 +1,29 @@
+package com.energia.resourcemanagement.dto.request;
+
+import com.energia.resourcemanagement.domain.enums.CharacteristicType;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Optional characteristic criteria of the resource listings. The given fields must all match the same
+// characteristic, e.g. characteristicType=CONNECTION_POINT_STATUS&characteristicValue=ACTIVE.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CharacteristicFilterRequest {
+
+    private CharacteristicType characteristicType;
+
+    @Size(min = 1, max = 5, message = "Characteristic code must be 1-5 characters")
+    private String characteristicCode;
+
+    @Size(min = 1, max = 255, message = "Characteristic value must be 1-255 characters")
+    private String characteristicValue;
+
+    public boolean hasCriteria() {
+        return characteristicType != null || characteristicCode != null || characteristicValue != null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.energia.resourcemanagement.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Body of PUT /api/v1/resources/{id}/characteristics/{type}/{code}; type and code come from the path
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CharacteristicValueRequest {
+
+    @NotBlank(message = "Value is required")
+    @Size(max = 255, message = "Value must not exceed 255 characters")
+    private String value;
+}
@@ -0,0 +1,34 @@
+package com.energia.resourcemanagement.dto.request;
+
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+// Query parameters of DELETE /api/v1/resources. All given filters must match; at least one is required,
+// so a bare DELETE on the collection cannot wipe it.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeleteResourcesRequest {
+
+    @Pattern(regexp = "^[A-Z]{2}$", message = "Country code must be 2 uppercase letters (ISO 3166-1 alpha-2)")
+    private String countryCode;
+
+    private ResourceType type;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedBefore;
+
+    @AssertTrue(message = "At least one of countryCode, type or updatedBefore is required")
+    public boolean isFiltered() {
+        return countryCode != null || type != null || updatedBefore != null;
+    }
+}
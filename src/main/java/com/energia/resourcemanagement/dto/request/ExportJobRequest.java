@@ -0,0 +1,42 @@
+package com.energia.resourcemanagement.dto.request;
+
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+// Query parameters of POST /export-all. updatedSince or a named watermark turns it into a delta export,
+// which is the only mode that takes the countryCode/type filters.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJobRequest {
+
+    private Integer workers;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedSince;
+
+    @Pattern(regexp = "^[A-Za-z0-9._-]{1,100}$",
+            message = "Watermark name must be 1-100 letters, digits, dots, underscores or hyphens")
+    private String watermark;
+
+    @Pattern(regexp = "^[A-Z]{2}$", message = "Country code must be 2 uppercase letters (ISO 3166-1 alpha-2)")
+    private String countryCode;
+
+    private ResourceType type;
+
+    public boolean deltaRequested() {
+        return updatedSince != null || watermark != null;
+    }
+
+    public boolean hasFilters() {
+        return countryCode != null || type != null;
+    }
+}
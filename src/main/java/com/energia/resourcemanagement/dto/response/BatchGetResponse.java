@@ -0,0 +1,20 @@
+package com.energia.resourcemanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetResponse {
+
+    // In request order, duplicates removed
+    private List<ResourceResponse> resources;
+    private List<UUID> missingIds;
+}
@@ -0,0 +1,18 @@
+package com.energia.resourcemanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchMutationResponse {
+
+    // In request order
+    private List<BatchOperationResult> results;
+}
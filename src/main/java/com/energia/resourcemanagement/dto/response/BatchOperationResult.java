@@ -0,0 +1,26 @@
+package com.energia.resourcemanagement.dto.response;
+
+import com.energia.resourcemanagement.domain.enums.BatchOperationStatus;
+import com.energia.resourcemanagement.domain.enums.BatchOperationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOperationResult {
+
+    // Position of the operation in the request
+    private int index;
+    private BatchOperationType op;
+    private BatchOperationStatus status;
+    private UUID id;
+    // The committed version for CREATED and UPDATED, the current one for CONFLICT
+    private Long version;
+    private String message;
+}
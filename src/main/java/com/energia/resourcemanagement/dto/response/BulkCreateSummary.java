@@ -0,0 +1,20 @@
+package com.energia.resourcemanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateSummary {
+
+    private long received;
+    private long created;
+    private long rejected;
+    private long failed;
+    // Set when the body stopped being a readable JSON array; items before that point are kept
+    private String error;
+}
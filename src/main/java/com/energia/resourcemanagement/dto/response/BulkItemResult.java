@@ -0,0 +1,23 @@
+package com.energia.resourcemanagement.dto.response;
+
+import com.energia.resourcemanagement.domain.enums.BulkItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResult {
+
+    // Position of the item in the request array
+    private long index;
+    private BulkItemStatus status;
+    private UUID id;
+    private List<String> errors;
+}
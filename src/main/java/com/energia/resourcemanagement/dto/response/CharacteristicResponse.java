@@ -0,0 +1,24 @@
+package com.energia.resourcemanagement.dto.response;
+
+import com.energia.resourcemanagement.domain.enums.CharacteristicType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CharacteristicResponse {
+
+    private UUID resourceId;
+    private String code;
+    private CharacteristicType type;
+    private String value;
+
+    // Version of the owning resource after the change, also sent as its ETag
+    private Long resourceVersion;
+}
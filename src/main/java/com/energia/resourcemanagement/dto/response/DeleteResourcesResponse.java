@@ -0,0 +1,15 @@
+package com.energia.resourcemanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeleteResourcesResponse {
+
+    private long deleted;
+}
@@ -0,0 +1,41 @@
+package com.energia.resourcemanagement.dto.response;
+
+import com.energia.resourcemanagement.domain.enums.ExportJobStatus;
+import com.energia.resourcemanagement.domain.enums.ExportMode;
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJobResponse {
+
+    private UUID id;
+    private ExportJobStatus status;
+    private ExportMode mode;
+    private int workerCount;
+    private LocalDateTime updatedSince;
+    private LocalDateTime updatedUntil;
+    private String countryCode;
+    private ResourceType resourceType;
+    private String watermarkName;
+    private long totalResources;
+    private long rowsExported;
+    private long bytesSent;
+    private long failedRecords;
+    private Double throughputPerSecond;
+    private Long estimatedSecondsRemaining;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private List<ExportPartitionResponse> partitions;
+}
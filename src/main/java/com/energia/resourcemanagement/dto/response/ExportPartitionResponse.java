@@ -0,0 +1,26 @@
+package com.energia.resourcemanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportPartitionResponse {
+
+    private int partitionIndex;
+    private UUID lowerBound;
+    private UUID upperBound;
+    private long rowsExported;
+    private long bytesSent;
+    private long failedRecords;
+    private Double throughputPerSecond;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
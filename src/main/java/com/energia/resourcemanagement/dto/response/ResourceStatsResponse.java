@@ -0,0 +1,21 @@
+package com.energia.resourcemanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceStatsResponse {
+
+    private long totalResources;
+    private Map<String, Long> byCountry;
+    private Map<String, Long> byType;
+    // Number of characteristics of each type
+    private Map<String, Long> byCharacteristicType;
+}
@@ -0,0 +1,22 @@
+package com.energia.resourcemanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SliceResponse<T> {
+
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    // Only when requested; may lag behind recent writes
+    private Long approximateTotal;
+}
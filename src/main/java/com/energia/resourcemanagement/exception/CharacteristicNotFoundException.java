@@ -0,0 +1,11 @@
+package com.energia.resourcemanagement.exception;
+
+import com.energia.resourcemanagement.domain.enums.CharacteristicType;
+
+import java.util.UUID;
+
+public class CharacteristicNotFoundException extends RuntimeException {
+    public CharacteristicNotFoundException(UUID resourceId, CharacteristicType type, String code) {
+        super(String.format("Characteristic with code '%s' and type '%s' not found for resource %s", code, type, resourceId));
+    }
+}
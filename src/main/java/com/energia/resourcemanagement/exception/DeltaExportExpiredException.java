@@ -0,0 +1,7 @@
+package com.energia.resourcemanagement.exception;
+
+public class DeltaExportExpiredException extends RuntimeException {
+    public DeltaExportExpiredException(String message) {
+        super(message);
+    }
+}
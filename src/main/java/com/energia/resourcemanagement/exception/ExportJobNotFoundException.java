@@ -0,0 +1,9 @@
+package com.energia.resourcemanagement.exception;
+
+import java.util.UUID;
+
+public class ExportJobNotFoundException extends RuntimeException {
+    public ExportJobNotFoundException(UUID id) {
+        super(String.format("Export job with id %s not found", id));
+    }
+}
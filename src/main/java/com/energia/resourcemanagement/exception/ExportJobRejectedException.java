@@ -0,0 +1,9 @@
+package com.energia.resourcemanagement.exception;
+
+import java.util.UUID;
+
+public class ExportJobRejectedException extends RuntimeException {
+    public ExportJobRejectedException(UUID id) {
+        super(String.format("Export job %s was rejected: too many export jobs are queued", id));
+    }
+}
@@ -0,0 +1,11 @@
+package com.energia.resourcemanagement.exception;
+
+import com.energia.resourcemanagement.domain.enums.ExportJobStatus;
+
+import java.util.UUID;
+
+public class ExportJobStateException extends RuntimeException {
+    public ExportJobStateException(UUID id, ExportJobStatus status, String action) {
+        super(String.format("Export job %s cannot be %s in status %s", id, action, status));
+    }
+}
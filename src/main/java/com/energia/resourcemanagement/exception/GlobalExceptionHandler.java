@@ -36,6 +36,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(CharacteristicNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleCharacteristicNotFound(
+            CharacteristicNotFoundException ex, HttpServletRequest request) {
+        log.error("Characteristic not found: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .code("CHARACTERISTIC_NOT_FOUND")
+                .message(ex.getMessage())
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
     @ExceptionHandler(DuplicateCharacteristicException.class)
     public ResponseEntity<ErrorResponse> handleDuplicateCharacteristic(
             DuplicateCharacteristicException ex, HttpServletRequest request) {
@@ -51,6 +66,141 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(ExportJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleExportJobNotFound(
+            ExportJobNotFoundException ex, HttpServletRequest request) {
+        log.error("Export job not found: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .code("EXPORT_JOB_NOT_FOUND")
+                .message(ex.getMessage())
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(ExportJobStateException.class)
+    public ResponseEntity<ErrorResponse> handleExportJobState(
+            ExportJobStateException ex, HttpServletRequest request) {
+        log.error("Invalid export job state: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .code("INVALID_EXPORT_JOB_STATE")
+                .message(ex.getMessage())
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler(ExportJobRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleExportJobRejected(
+            ExportJobRejectedException ex, HttpServletRequest request) {
+        log.error("Export job rejected: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .code("EXPORT_QUEUE_FULL")
+                .message(ex.getMessage())
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidExportRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidExportRequest(
+            InvalidExportRequestException ex, HttpServletRequest request) {
+        log.error("Invalid export request: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .code("INVALID_EXPORT_REQUEST")
+                .message(ex.getMessage())
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(DeltaExportExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleDeltaExportExpired(
+            DeltaExportExpiredException ex, HttpServletRequest request) {
+        log.error("Delta export expired: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .code("DELTA_EXPORT_EXPIRED")
+                .message(ex.getMessage())
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(
+            InvalidCursorException ex, HttpServletRequest request) {
+        log.error("Invalid cursor: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .code("INVALID_CURSOR")
+                .message(ex.getMessage())
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidIfMatchException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidIfMatch(
+            InvalidIfMatchException ex, HttpServletRequest request) {
+        log.error("Invalid If-Match: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .code("INVALID_IF_MATCH")
+                .message(ex.getMessage())
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFields(
+            InvalidFieldsException ex, HttpServletRequest request) {
+        log.error("Invalid fields: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .code("INVALID_FIELDS")
+                .message(ex.getMessage())
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidCharacteristicCodeException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCharacteristicCode(
+            InvalidCharacteristicCodeException ex, HttpServletRequest request) {
+        log.error("Invalid characteristic code: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .code("INVALID_CHARACTERISTIC_CODE")
+                .message(ex.getMessage())
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -0,0 +1,7 @@
+package com.energia.resourcemanagement.exception;
+
+public class InvalidCharacteristicCodeException extends RuntimeException {
+    public InvalidCharacteristicCodeException(String code) {
+        super(String.format("Invalid characteristic code: %s. Must be 1-5 uppercase letters and numbers", code));
+    }
+}
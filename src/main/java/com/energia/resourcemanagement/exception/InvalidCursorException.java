@@ -0,0 +1,7 @@
+package com.energia.resourcemanagement.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super(String.format("Invalid page cursor: %s", cursor));
+    }
+}
@@ -0,0 +1,7 @@
+package com.energia.resourcemanagement.exception;
+
+public class InvalidFieldsException extends RuntimeException {
+    public InvalidFieldsException(String field) {
+        super(String.format("Unknown or unsupported field: %s", field));
+    }
+}
@@ -0,0 +1,7 @@
+package com.energia.resourcemanagement.exception;
+
+public class InvalidIfMatchException extends RuntimeException {
+    public InvalidIfMatchException(String ifMatch) {
+        super(String.format("If-Match must be an ETag of this resource or a version number: %s", ifMatch));
+    }
+}
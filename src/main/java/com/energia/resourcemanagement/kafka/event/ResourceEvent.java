@@ -1,6 +1,7 @@
 package com.energia.resourcemanagement.kafka.event;
 
 import com.energia.resourcemanagement.domain.enums.EventType;
+import com.energia.resourcemanagement.dto.common.CharacteristicDTO;
 import com.energia.resourcemanagement.dto.response.ResourceResponse;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,4 +22,9 @@ public class ResourceEvent {
     private UUID resourceId;
     private ResourceResponse resource;
     private Instant timestamp;
+
+    // Set instead of resource on CHARACTERISTIC_* events, which carry only the changed characteristic
+    // and the resource version the change produced
+    private CharacteristicDTO characteristic;
+    private Long resourceVersion;
 }
\ No newline at end of file
@@ -0,0 +1,161 @@
+package com.energia.resourcemanagement.kafka.outbox;
+
+import com.energia.resourcemanagement.domain.entity.OutboxEvent;
+import com.energia.resourcemanagement.kafka.event.ResourceEvent;
+import com.energia.resourcemanagement.kafka.producer.ResourceEventProducer;
+import com.energia.resourcemanagement.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Publishes outbox rows and deletes them once acknowledged, keeping the events of each resource in id
+// order. Any number of instances can run it: rows are bucketed by resource id (V12) and an instance
+// relays a bucket only while holding its advisory lock, so one resource's events never go out from
+// two instances at once. Within a batch a resource has one event in flight at a time, and its later
+// events are held back once one fails, so a retried event is never overtaken by a newer one.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private record BatchResult(int published, boolean failed) {
+    }
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ResourceEventProducer eventProducer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${outbox.relay.send-timeout-ms:30000}")
+    private long sendTimeoutMs;
+
+    @Value("${outbox.relay.max-batches-per-tick:20}")
+    private int maxBatchesPerTick;
+
+    private Counter relayedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        // Read from the table, so the lag keeps growing when no relay is running at all
+        Gauge.builder("outbox.relay.lag", outboxEventRepository, repository -> {
+                    Double age = repository.findOldestEventAgeSeconds();
+                    return age != null ? age : 0;
+                })
+                .description("Age of the oldest resource event not yet published to Kafka")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        relayedCounter = Counter.builder("outbox.relay.published")
+                .description("Resource events published from the outbox")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("outbox.relay.failed")
+                .description("Outbox publish attempts that failed and will be retried")
+                .register(meterRegistry);
+    }
+
+    // Keeps draining a bucket while its batches come back fully published, up to max-batches-per-tick
+    // batches per poll. A batch with failures ends the poll, as the broker is likely unavailable. Runs on
+    // its own scheduler, since waiting on acknowledgements must not delay the other scheduled jobs.
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:200}", scheduler = "outboxRelayScheduler")
+    public void relay() {
+        List<Integer> buckets = new ArrayList<>(outboxEventRepository.findPendingBuckets());
+        // Instances start at different buckets, so they rarely contend for the same lock
+        Collections.rotate(buckets, ThreadLocalRandom.current().nextInt(Math.max(1, buckets.size())));
+        int batches = 0;
+        for (int bucket : buckets) {
+            BatchResult result;
+            do {
+                result = transactionTemplate.execute(status -> relayBatch(bucket));
+                batches++;
+                if (result == null || result.failed()) {
+                    return;
+                }
+            } while (result.published() == batchSize && batches < maxBatchesPerTick);
+            if (batches >= maxBatchesPerTick) {
+                return;
+            }
+        }
+    }
+
+    // The bucket stays claimed until its acknowledgements are in and the published rows are deleted.
+    // Rows that failed or were held back are picked up again by the next poll.
+    private BatchResult relayBatch(int bucket) {
+        if (!outboxEventRepository.tryLockBucket(bucket)) {
+            return new BatchResult(0, false);
+        }
+        List<OutboxEvent> events = outboxEventRepository.findNextBatch(bucket, batchSize);
+        if (events.isEmpty()) {
+            return new BatchResult(0, false);
+        }
+
+        Map<UUID, Deque<OutboxEvent>> pending = new LinkedHashMap<>();
+        events.forEach(event -> pending.computeIfAbsent(event.getResourceId(), id -> new ArrayDeque<>()).add(event));
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        List<Long> published = new ArrayList<>();
+        int failed = 0;
+        boolean interrupted = false;
+        while (!pending.isEmpty() && !interrupted) {
+            // The next event of every resource goes out before waiting on any, so the producer can batch them
+            List<OutboxEvent> wave = pending.values().stream().map(Deque::poll).toList();
+            List<CompletableFuture<?>> sends = wave.stream().map(this::send).toList();
+
+            for (int i = 0; i < wave.size() && !interrupted; i++) {
+                OutboxEvent event = wave.get(i);
+                try {
+                    sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    published.add(event.getId());
+                } catch (ExecutionException | TimeoutException e) {
+                    Deque<OutboxEvent> heldBack = pending.remove(event.getResourceId());
+                    failed++;
+                    log.warn("Failed to relay event {} for resource {}, holding back {} later events: {}",
+                            event.getEventId(), event.getResourceId(), heldBack.size(), e.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    interrupted = true;
+                }
+            }
+            pending.values().removeIf(Deque::isEmpty);
+        }
+
+        outboxEventRepository.deleteAllByIdInBatch(published);
+        relayedCounter.increment(published.size());
+        failedCounter.increment(failed);
+        log.debug("Relayed {} of {} outbox events from bucket {}", published.size(), events.size(), bucket);
+        return new BatchResult(published.size(), failed > 0 || interrupted);
+    }
+
+    private CompletableFuture<?> send(OutboxEvent outboxEvent) {
+        try {
+            return eventProducer.sendResourceEvent(objectMapper.readValue(outboxEvent.getPayload(), ResourceEvent.class));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.energia.resourcemanagement.kafka.outbox;
+
+import com.energia.resourcemanagement.domain.entity.OutboxEvent;
+import com.energia.resourcemanagement.kafka.event.ResourceEvent;
+import com.energia.resourcemanagement.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// Records an event as part of the caller's write, so it is published if and only if the write commits
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResourceEventOutbox {
+
+    private static final String INSERT_EVENT = "INSERT INTO resource_event_outbox " +
+            "(event_id, event_type, resource_id, payload) VALUES (?, ?, ?, ?::jsonb)";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(ResourceEvent event) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventId(event.getEventId())
+                .eventType(event.getEventType())
+                .resourceId(event.getResourceId())
+                .payload(serialize(event))
+                .build());
+        log.debug("Event {} for resource {} added to the outbox", event.getEventType(), event.getResourceId());
+    }
+
+    // One JDBC batch for bulk writes, which would otherwise persist an entity per event
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<ResourceEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_EVENT, events, events.size(), (ps, event) -> {
+            ps.setObject(1, event.getEventId());
+            ps.setString(2, event.getEventType().name());
+            ps.setObject(3, event.getResourceId());
+            ps.setString(4, serialize(event));
+        });
+        log.debug("{} events added to the outbox", events.size());
+    }
+
+    private String serialize(ResourceEvent event) {
+        try {
+            return objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT).writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize event for resource " + event.getResourceId(), e);
+        }
+    }
+}
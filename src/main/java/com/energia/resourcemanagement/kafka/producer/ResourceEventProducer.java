@@ -2,33 +2,70 @@ package com.energia.resourcemanagement.kafka.producer;
 
 import com.energia.resourcemanagement.dto.response.ResourceResponse;
 import com.energia.resourcemanagement.kafka.event.ResourceEvent;
+import com.energia.resourcemanagement.service.export.ExportProgress;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.utils.Utils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ResourceEventProducer {
 
+    private static final String BULK_EXPORT_KEY = "bulk-export";
+
     private final KafkaTemplate<String, Object> kafkaTemplate;
 
     @Value("${kafka.topic.resource-events}")
     private String resourceEventsTopic;
 
-    public void sendResourceEvent(ResourceEvent event) {
+    // Sends each bulk batch to the partition its resources' own events go to, instead of all to one
+    @Value("${export.kafka.partition-aware:false}")
+    private boolean partitionAware;
+
+    @Value("${export.kafka.max-in-flight-batches:16}")
+    private int maxInFlightBatches;
+
+    @Value("${export.kafka.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${export.kafka.retry-backoff-ms:500}")
+    private long retryBackoffMs;
+
+    // Un-acknowledged bulk export batches, shared by every export running on this instance
+    private Semaphore inFlightBatches;
+
+    @PostConstruct
+    void init() {
+        inFlightBatches = new Semaphore(maxInFlightBatches);
+    }
+
+    public CompletableFuture<SendResult<String, Object>> sendResourceEvent(ResourceEvent event) {
         log.debug("Sending resource event: {} for resource: {}", event.getEventType(), event.getResourceId());
 
         CompletableFuture<SendResult<String, Object>> future =
                 kafkaTemplate.send(resourceEventsTopic, event.getResourceId().toString(), event);
 
-        future.whenComplete((result, ex) -> {
+        return future.whenComplete((result, ex) -> {
             if (ex == null) {
                 log.info("Successfully sent event: {} for resource: {}",
                         event.getEventType(), event.getResourceId());
@@ -38,25 +75,116 @@ public class ResourceEventProducer {
         });
     }
 
-    public void sendBulkExport(List<ResourceResponse> resources) {
+    // Completes with the serialized size of the whole list once every batch is acknowledged,
+    // or exceptionally if any batch still failed after its retries. Blocks while the in-flight
+    // window is full, so a slow broker slows the export down instead of overflowing the buffer.
+    public CompletableFuture<Long> sendBulkExport(List<ResourceResponse> resources, ExportProgress progress) {
         log.info("Sending bulk export with {} resources", resources.size());
 
         // Send in batches to avoid message size limits
         int batchSize = 1000;
-        for (int i = 0; i < resources.size(); i += batchSize) {
-            int end = Math.min(i + batchSize, resources.size());
-            List<ResourceResponse> batch = resources.subList(i, end);
+        List<CompletableFuture<Long>> acknowledgements = new ArrayList<>();
+        groupByPartition(resources).forEach((partition, group) -> {
+            for (int i = 0; i < group.size(); i += batchSize) {
+                int end = Math.min(i + batchSize, group.size());
+                List<ResourceResponse> batch = group.subList(i, end);
+
+                acquireInFlightSlot();
+                acknowledgements.add(send(partition, BULK_EXPORT_KEY, batch, 1).whenComplete((bytes, ex) -> {
+                    inFlightBatches.release();
+                    if (ex == null) {
+                        progress.recordAcknowledged(batch.size(), bytes);
+                        log.info("Successfully sent batch of {} resources", batch.size());
+                    } else {
+                        progress.recordFailed(batch.size());
+                        log.error("Failed to send batch of {} resources", batch.size(), ex);
+                    }
+                }));
+            }
+        });
+
+        return CompletableFuture.allOf(acknowledgements.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> acknowledgements.stream().mapToLong(CompletableFuture::join).sum());
+    }
+
+    // Null-valued records keyed by resource id, so compacted consumers drop the resources.
+    // Shares the in-flight window with bulk batches, one slot per group of up to 1000 tombstones.
+    public CompletableFuture<Long> sendTombstones(List<UUID> resourceIds, ExportProgress progress) {
+        log.info("Sending {} tombstones", resourceIds.size());
 
-            CompletableFuture<SendResult<String, Object>> future =
-                    kafkaTemplate.send(resourceEventsTopic, "bulk-export", batch);
+        int groupSize = 1000;
+        List<CompletableFuture<Long>> acknowledgements = new ArrayList<>();
+        for (int i = 0; i < resourceIds.size(); i += groupSize) {
+            int end = Math.min(i + groupSize, resourceIds.size());
+            List<UUID> group = resourceIds.subList(i, end);
 
-            future.whenComplete((result, ex) -> {
+            acquireInFlightSlot();
+            CompletableFuture<?>[] sends = group.stream()
+                    .map(id -> send(null, id.toString(), null, 1))
+                    .toArray(CompletableFuture[]::new);
+            acknowledgements.add(CompletableFuture.allOf(sends).thenApply(ignored -> 0L).whenComplete((bytes, ex) -> {
+                inFlightBatches.release();
                 if (ex == null) {
-                    log.info("Successfully sent batch of {} resources", batch.size());
+                    progress.recordAcknowledged(group.size(), 0);
                 } else {
-                    log.error("Failed to send batch", ex);
+                    progress.recordFailed(group.size());
+                    log.error("Failed to send {} tombstones", group.size(), ex);
                 }
-            });
+            }));
+        }
+
+        return CompletableFuture.allOf(acknowledgements.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> 0L);
+    }
+
+    // A null partition leaves the choice to the producer's partitioner
+    private CompletableFuture<Long> send(Integer partition, String key, Object value, int attempt) {
+        CompletableFuture<SendResult<String, Object>> future;
+        try {
+            future = partition != null
+                    ? kafkaTemplate.send(resourceEventsTopic, partition, key, value)
+                    : kafkaTemplate.send(resourceEventsTopic, key, value);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future
+                .thenApply(result -> (long) Math.max(0, result.getRecordMetadata().serializedValueSize()))
+                .exceptionallyCompose(ex -> {
+                    if (attempt > maxRetries) {
+                        return CompletableFuture.failedFuture(ex);
+                    }
+                    log.warn("Send of {} failed (attempt {}), retrying: {}", key, attempt, ex.getMessage());
+                    // Retries run off the producer I/O thread, which must never block on a send
+                    Executor delayed = CompletableFuture.delayedExecutor(
+                            retryBackoffMs * attempt, TimeUnit.MILLISECONDS);
+                    return CompletableFuture.supplyAsync(() -> send(partition, key, value, attempt + 1), delayed)
+                            .thenCompose(Function.identity());
+                });
+    }
+
+    // Keyed records, like the per-resource events, are placed by murmur2 of the key. Using the same
+    // hash keeps a resource's bulk record and its events on one partition, so they stay in order.
+    private Map<Integer, List<ResourceResponse>> groupByPartition(List<ResourceResponse> resources) {
+        if (!partitionAware) {
+            return Collections.singletonMap(null, resources);
+        }
+
+        int partitions = kafkaTemplate.partitionsFor(resourceEventsTopic).size();
+        return resources.stream().collect(Collectors.groupingBy(
+                resource -> partitionFor(resource.getId(), partitions), TreeMap::new, Collectors.toList()));
+    }
+
+    private static int partitionFor(UUID resourceId, int partitions) {
+        return Utils.toPositive(Utils.murmur2(resourceId.toString().getBytes(StandardCharsets.UTF_8))) % partitions;
+    }
+
+    private void acquireInFlightSlot() {
+        try {
+            inFlightBatches.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Kafka acknowledgements", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.energia.resourcemanagement.kafka.serialization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Value encodings of resource topics. Every record carries its format in the payload-format header,
+// so consumers can tell them apart while producers switch over.
+public enum PayloadFormat {
+
+    JSON("json"),
+    BINARY("resource-binary;v=1");
+
+    public static final String HEADER = "payload-format";
+
+    private final String headerValue;
+
+    PayloadFormat(String headerValue) {
+        this.headerValue = headerValue;
+    }
+
+    public byte[] headerBytes() {
+        return headerValue.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static PayloadFormat fromHeader(byte[] value) {
+        String header = new String(value, StandardCharsets.UTF_8);
+        return Arrays.stream(values())
+                .filter(format -> format.headerValue.equals(header))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown payload format: " + header));
+    }
+}
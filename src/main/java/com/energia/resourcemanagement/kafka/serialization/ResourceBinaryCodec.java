@@ -0,0 +1,339 @@
+package com.energia.resourcemanagement.kafka.serialization;
+
+import com.energia.resourcemanagement.domain.enums.CharacteristicType;
+import com.energia.resourcemanagement.domain.enums.EventType;
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+import com.energia.resourcemanagement.dto.common.CharacteristicDTO;
+import com.energia.resourcemanagement.dto.common.LocationDTO;
+import com.energia.resourcemanagement.dto.response.ResourceResponse;
+import com.energia.resourcemanagement.kafka.event.ResourceEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Schema'd binary encoding (format v1) of resource events and bulk export batches.
+// Fields are written in declaration order without names: UUIDs as 16 bytes, counts and lengths as
+// varints, timestamps as zig-zag varint epoch seconds plus nanos, enums by ordinal (so new enum
+// constants must be appended). Nullable values are prefixed with a presence marker.
+// Event fields added since v1 trail the event and are read only when present, so v1 events still decode.
+public final class ResourceBinaryCodec {
+
+    static final byte RESOURCE_EVENT = 1;
+    static final byte RESOURCE_BATCH = 2;
+    static final byte RESOURCE = 3;
+
+    private ResourceBinaryCodec() {
+    }
+
+    public static boolean supports(Object value) {
+        return value instanceof ResourceEvent
+                || value instanceof ResourceResponse
+                || (value instanceof List<?> list && list.stream().allMatch(ResourceResponse.class::isInstance));
+    }
+
+    public static byte[] encode(Object value) {
+        Writer writer = new Writer();
+        if (value instanceof ResourceEvent event) {
+            writer.writeByte(RESOURCE_EVENT);
+            writeEvent(writer, event);
+        } else if (value instanceof ResourceResponse resource) {
+            writer.writeByte(RESOURCE);
+            writeResource(writer, resource);
+        } else if (value instanceof List<?> list && supports(list)) {
+            writer.writeByte(RESOURCE_BATCH);
+            writer.writeVarLong(list.size());
+            list.forEach(resource -> writeResource(writer, (ResourceResponse) resource));
+        } else {
+            throw new IllegalArgumentException("Unsupported payload type: " + value.getClass().getName());
+        }
+        return writer.toByteArray();
+    }
+
+    // Returns a ResourceEvent, a ResourceResponse or a List<ResourceResponse>
+    public static Object decode(byte[] payload) {
+        Reader reader = new Reader(ByteBuffer.wrap(payload));
+        try {
+            byte kind = reader.readByte();
+            return switch (kind) {
+                case RESOURCE_EVENT -> readEvent(reader);
+                case RESOURCE -> readResource(reader);
+                case RESOURCE_BATCH -> {
+                    int size = (int) reader.readVarLong();
+                    List<ResourceResponse> resources = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        resources.add(readResource(reader));
+                    }
+                    yield resources;
+                }
+                default -> throw new IllegalArgumentException("Unknown payload kind: " + kind);
+            };
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated binary payload", e);
+        }
+    }
+
+    private static void writeEvent(Writer writer, ResourceEvent event) {
+        writer.writeUuid(event.getEventId());
+        writer.writeEnum(event.getEventType());
+        writer.writeUuid(event.getResourceId());
+        writer.writeBoolean(event.getResource() != null);
+        if (event.getResource() != null) {
+            writeResource(writer, event.getResource());
+        }
+        writer.writeInstant(event.getTimestamp());
+
+        CharacteristicDTO characteristic = event.getCharacteristic();
+        writer.writeBoolean(characteristic != null);
+        if (characteristic != null) {
+            writeCharacteristic(writer, characteristic);
+        }
+        writer.writeBoolean(event.getResourceVersion() != null);
+        if (event.getResourceVersion() != null) {
+            writer.writeVarLong(event.getResourceVersion());
+        }
+    }
+
+    private static ResourceEvent readEvent(Reader reader) {
+        ResourceEvent event = ResourceEvent.builder()
+                .eventId(reader.readUuid())
+                .eventType(reader.readEnum(EventType.values()))
+                .resourceId(reader.readUuid())
+                .resource(reader.readBoolean() ? readResource(reader) : null)
+                .timestamp(reader.readInstant())
+                .build();
+
+        if (reader.hasRemaining()) {
+            event.setCharacteristic(reader.readBoolean() ? readCharacteristic(reader) : null);
+            event.setResourceVersion(reader.readBoolean() ? reader.readVarLong() : null);
+        }
+        return event;
+    }
+
+    private static void writeResource(Writer writer, ResourceResponse resource) {
+        writer.writeUuid(resource.getId());
+        writer.writeEnum(resource.getType());
+        writer.writeString(resource.getCountryCode());
+
+        LocationDTO location = resource.getLocation();
+        writer.writeBoolean(location != null);
+        if (location != null) {
+            writer.writeString(location.getStreetAddress());
+            writer.writeString(location.getCity());
+            writer.writeString(location.getPostalCode());
+            writer.writeString(location.getCountryCode());
+        }
+
+        List<CharacteristicDTO> characteristics = resource.getCharacteristics();
+        // Count + 1, so that 0 keeps a null list apart from an empty one
+        writer.writeVarLong(characteristics == null ? 0 : characteristics.size() + 1L);
+        if (characteristics != null) {
+            characteristics.forEach(characteristic -> writeCharacteristic(writer, characteristic));
+        }
+
+        writer.writeDateTime(resource.getCreatedAt());
+        writer.writeDateTime(resource.getUpdatedAt());
+        writer.writeBoolean(resource.getVersion() != null);
+        if (resource.getVersion() != null) {
+            writer.writeVarLong(resource.getVersion());
+        }
+    }
+
+    private static ResourceResponse readResource(Reader reader) {
+        ResourceResponse resource = ResourceResponse.builder()
+                .id(reader.readUuid())
+                .type(reader.readEnum(ResourceType.values()))
+                .countryCode(reader.readString())
+                .build();
+
+        if (reader.readBoolean()) {
+            resource.setLocation(LocationDTO.builder()
+                    .streetAddress(reader.readString())
+                    .city(reader.readString())
+                    .postalCode(reader.readString())
+                    .countryCode(reader.readString())
+                    .build());
+        }
+
+        long characteristicCount = reader.readVarLong();
+        if (characteristicCount > 0) {
+            List<CharacteristicDTO> characteristics = new ArrayList<>((int) characteristicCount - 1);
+            for (long i = 1; i < characteristicCount; i++) {
+                characteristics.add(readCharacteristic(reader));
+            }
+            resource.setCharacteristics(characteristics);
+        }
+
+        resource.setCreatedAt(reader.readDateTime());
+        resource.setUpdatedAt(reader.readDateTime());
+        if (reader.readBoolean()) {
+            resource.setVersion(reader.readVarLong());
+        }
+        return resource;
+    }
+
+    private static void writeCharacteristic(Writer writer, CharacteristicDTO characteristic) {
+        writer.writeString(characteristic.getCode());
+        writer.writeEnum(characteristic.getType());
+        writer.writeString(characteristic.getValue());
+    }
+
+    private static CharacteristicDTO readCharacteristic(Reader reader) {
+        return CharacteristicDTO.builder()
+                .code(reader.readString())
+                .type(reader.readEnum(CharacteristicType.values()))
+                .value(reader.readString())
+                .build();
+    }
+
+    private static final class Writer {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+
+        void writeByte(int value) {
+            out.write(value);
+        }
+
+        void writeBoolean(boolean value) {
+            out.write(value ? 1 : 0);
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        void writeZigZag(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeUuid(UUID value) {
+            writeBoolean(value != null);
+            if (value != null) {
+                writeLong(value.getMostSignificantBits());
+                writeLong(value.getLeastSignificantBits());
+            }
+        }
+
+        void writeEnum(Enum<?> value) {
+            // Ordinal + 1, so that 0 is null
+            writeVarLong(value == null ? 0 : value.ordinal() + 1L);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        void writeDateTime(LocalDateTime value) {
+            writeBoolean(value != null);
+            if (value != null) {
+                writeZigZag(value.toEpochSecond(ZoneOffset.UTC));
+                writeVarLong(value.getNano());
+            }
+        }
+
+        void writeInstant(Instant value) {
+            writeBoolean(value != null);
+            if (value != null) {
+                writeZigZag(value.getEpochSecond());
+                writeVarLong(value.getNano());
+            }
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+
+        private void writeLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) (value >>> shift));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final ByteBuffer buffer;
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        boolean hasRemaining() {
+            return buffer.hasRemaining();
+        }
+
+        byte readByte() {
+            return buffer.get();
+        }
+
+        boolean readBoolean() {
+            return buffer.get() != 0;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        long readZigZag() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        UUID readUuid() {
+            return readBoolean() ? new UUID(buffer.getLong(), buffer.getLong()) : null;
+        }
+
+        <E extends Enum<E>> E readEnum(E[] values) {
+            int code = (int) readVarLong();
+            if (code > values.length) {
+                throw new IllegalArgumentException("Unknown enum code " + code);
+            }
+            return code == 0 ? null : values[code - 1];
+        }
+
+        String readString() {
+            int length = (int) readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            byte[] bytes = new byte[length - 1];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        LocalDateTime readDateTime() {
+            return readBoolean()
+                    ? LocalDateTime.ofEpochSecond(readZigZag(), (int) readVarLong(), ZoneOffset.UTC)
+                    : null;
+        }
+
+        Instant readInstant() {
+            return readBoolean() ? Instant.ofEpochSecond(readZigZag(), readVarLong()) : null;
+        }
+    }
+}
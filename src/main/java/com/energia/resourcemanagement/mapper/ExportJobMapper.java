@@ -0,0 +1,20 @@
+package com.energia.resourcemanagement.mapper;
+
+import com.energia.resourcemanagement.domain.entity.ExportJob;
+import com.energia.resourcemanagement.domain.entity.ExportJobPartition;
+import com.energia.resourcemanagement.dto.response.ExportJobResponse;
+import com.energia.resourcemanagement.dto.response.ExportPartitionResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ExportJobMapper {
+
+    @Mapping(target = "estimatedSecondsRemaining", ignore = true)
+    @Mapping(target = "partitions", ignore = true)
+    ExportJobResponse toResponse(ExportJob exportJob);
+
+    List<ExportPartitionResponse> toPartitionResponseList(List<ExportJobPartition> partitions);
+}
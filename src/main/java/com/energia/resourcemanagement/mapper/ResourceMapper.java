@@ -10,6 +10,7 @@ import com.energia.resourcemanagement.dto.response.ResourceResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 
 import java.util.List;
 
@@ -21,6 +22,11 @@ public interface ResourceMapper {
 
     List<ResourceResponse> toResponseList(List<Resource> resources);
 
+    // For callers that load characteristics separately; never touches the lazy collection
+    @Named("withoutCharacteristics")
+    @Mapping(target = "characteristics", ignore = true)
+    ResourceResponse toResponseWithoutCharacteristics(Resource resource);
+
     LocationDTO toLocationDTO(Location location);
 
     CharacteristicDTO toCharacteristicDTO(Characteristic characteristic);
@@ -0,0 +1,60 @@
+package com.energia.resourcemanagement.mapper;
+
+import com.energia.resourcemanagement.domain.entity.Characteristic;
+import com.energia.resourcemanagement.domain.entity.Resource;
+import com.energia.resourcemanagement.dto.response.ResourceResponse;
+import com.energia.resourcemanagement.repository.CharacteristicRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// Maps a batch of resources with one IN query for all their characteristics, instead of one lazy
+// collection load per resource. Callers keep batches well below the bind parameter limit.
+@Component
+@RequiredArgsConstructor
+public class ResourceResponseAssembler {
+
+    private final CharacteristicRepository characteristicRepository;
+    private final ResourceMapper resourceMapper;
+
+    public List<ResourceResponse> toResponses(List<Resource> resources) {
+        if (resources.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, List<Characteristic>> characteristics =
+                findCharacteristics(resources.stream().map(Resource::getId).toList());
+
+        return resources.stream()
+                .map(resource -> {
+                    ResourceResponse response = resourceMapper.toResponseWithoutCharacteristics(resource);
+                    response.setCharacteristics(resourceMapper.toCharacteristicDTOList(
+                            characteristics.getOrDefault(resource.getId(), List.of())));
+                    return response;
+                })
+                .toList();
+    }
+
+    // For responses built from a column projection rather than from entities
+    public void attachCharacteristics(List<ResourceResponse> responses) {
+        if (responses.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, List<Characteristic>> characteristics =
+                findCharacteristics(responses.stream().map(ResourceResponse::getId).toList());
+
+        responses.forEach(response -> response.setCharacteristics(resourceMapper.toCharacteristicDTOList(
+                characteristics.getOrDefault(response.getId(), List.of()))));
+    }
+
+    private Map<UUID, List<Characteristic>> findCharacteristics(List<UUID> resourceIds) {
+        return characteristicRepository.findByResourceIds(resourceIds)
+                .stream()
+                .collect(Collectors.groupingBy(characteristic -> characteristic.getResource().getId()));
+    }
+}
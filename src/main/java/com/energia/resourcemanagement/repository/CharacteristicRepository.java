@@ -0,0 +1,18 @@
+package com.energia.resourcemanagement.repository;
+
+import com.energia.resourcemanagement.domain.entity.Characteristic;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CharacteristicRepository extends JpaRepository<Characteristic, UUID> {
+
+    @Query("SELECT c FROM Characteristic c WHERE c.resource.id IN :resourceIds")
+    List<Characteristic> findByResourceIds(@Param("resourceIds") Collection<UUID> resourceIds);
+}
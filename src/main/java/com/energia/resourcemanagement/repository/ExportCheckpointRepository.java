@@ -0,0 +1,43 @@
+package com.energia.resourcemanagement.repository;
+
+import com.energia.resourcemanagement.domain.entity.ExportCheckpoint;
+import com.energia.resourcemanagement.domain.entity.ExportCheckpointId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ExportCheckpointRepository extends JpaRepository<ExportCheckpoint, ExportCheckpointId> {
+
+    Optional<ExportCheckpoint> findByJobIdAndPartitionIndex(UUID jobId, int partitionIndex);
+
+    List<ExportCheckpoint> findByJobId(UUID jobId);
+
+    // Runs in its own transaction: exports read inside a read-only transaction that must stay open
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "INSERT INTO export_checkpoints " +
+            "(job_id, partition_index, last_resource_id, last_updated_at, rows_exported, bytes_sent, updated_at) " +
+            "VALUES (:jobId, :partitionIndex, :lastResourceId, :lastUpdatedAt, :rowsExported, :bytesSent, " +
+            "CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (job_id, partition_index) DO UPDATE SET " +
+            "last_resource_id = EXCLUDED.last_resource_id, last_updated_at = EXCLUDED.last_updated_at, " +
+            "rows_exported = EXCLUDED.rows_exported, " +
+            "bytes_sent = EXCLUDED.bytes_sent, updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    int upsert(@Param("jobId") UUID jobId,
+               @Param("partitionIndex") int partitionIndex,
+               @Param("lastResourceId") UUID lastResourceId,
+               @Param("lastUpdatedAt") LocalDateTime lastUpdatedAt,
+               @Param("rowsExported") long rowsExported,
+               @Param("bytesSent") long bytesSent);
+}
@@ -0,0 +1,17 @@
+package com.energia.resourcemanagement.repository;
+
+import com.energia.resourcemanagement.domain.entity.ExportJobPartition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ExportJobPartitionRepository extends JpaRepository<ExportJobPartition, UUID> {
+
+    List<ExportJobPartition> findByJobIdOrderByPartitionIndex(UUID jobId);
+
+    Optional<ExportJobPartition> findByJobIdAndPartitionIndex(UUID jobId, int partitionIndex);
+}
@@ -0,0 +1,78 @@
+package com.energia.resourcemanagement.repository;
+
+import com.energia.resourcemanagement.domain.entity.ExportJob;
+import com.energia.resourcemanagement.domain.enums.ExportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ExportJobRepository extends JpaRepository<ExportJob, UUID> {
+
+    Optional<ExportJob> findFirstByStatusOrderByFinishedAtDesc(ExportJobStatus status);
+
+    @Query("SELECT j.status FROM ExportJob j WHERE j.id = :id")
+    Optional<ExportJobStatus> findStatusById(@Param("id") UUID id);
+
+    // State transitions are conditional updates, so a concurrent cancel is never overwritten
+    @Modifying
+    @Transactional
+    @Query("UPDATE ExportJob j SET j.status = :to, j.startedAt = COALESCE(j.startedAt, :startedAt), " +
+            "j.heartbeatAt = :startedAt WHERE j.id = :id AND j.status = :from")
+    int transition(@Param("id") UUID id,
+                   @Param("from") ExportJobStatus from,
+                   @Param("to") ExportJobStatus to,
+                   @Param("startedAt") LocalDateTime startedAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ExportJob j SET j.rowsExported = :rowsExported, j.bytesSent = :bytesSent, " +
+            "j.failedRecords = :failedRecords, j.heartbeatAt = :heartbeatAt WHERE j.id = :id")
+    int updateProgress(@Param("id") UUID id,
+                       @Param("rowsExported") long rowsExported,
+                       @Param("bytesSent") long bytesSent,
+                       @Param("failedRecords") long failedRecords,
+                       @Param("heartbeatAt") LocalDateTime heartbeatAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ExportJob j SET j.status = :status, j.rowsExported = :rowsExported, j.bytesSent = :bytesSent, " +
+            "j.failedRecords = :failedRecords, j.errorMessage = :errorMessage, j.finishedAt = :finishedAt " +
+            "WHERE j.id = :id AND j.status = :expected")
+    int finish(@Param("id") UUID id,
+               @Param("expected") ExportJobStatus expected,
+               @Param("status") ExportJobStatus status,
+               @Param("rowsExported") long rowsExported,
+               @Param("bytesSent") long bytesSent,
+               @Param("failedRecords") long failedRecords,
+               @Param("errorMessage") String errorMessage,
+               @Param("finishedAt") LocalDateTime finishedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE ExportJob j SET j.status = :status, j.finishedAt = :finishedAt " +
+            "WHERE j.id = :id AND j.status IN :from")
+    int cancel(@Param("id") UUID id,
+               @Param("from") Collection<ExportJobStatus> from,
+               @Param("status") ExportJobStatus status,
+               @Param("finishedAt") LocalDateTime finishedAt);
+
+    // A RUNNING job is only resumable once its heartbeat is stale, i.e. the instance running it is gone
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE ExportJob j SET j.status = :status, j.errorMessage = NULL, j.finishedAt = NULL " +
+            "WHERE j.id = :id AND (j.status IN :from OR (j.status = :running AND j.heartbeatAt < :staleBefore))")
+    int requeue(@Param("id") UUID id,
+                @Param("from") Collection<ExportJobStatus> from,
+                @Param("running") ExportJobStatus running,
+                @Param("staleBefore") LocalDateTime staleBefore,
+                @Param("status") ExportJobStatus status);
+}
@@ -0,0 +1,29 @@
+package com.energia.resourcemanagement.repository;
+
+import com.energia.resourcemanagement.domain.entity.ExportWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ExportWatermarkRepository extends JpaRepository<ExportWatermark, String> {
+
+    // Never moves a watermark backwards, e.g. when an older delta job completes last
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO export_watermarks (name, watermark, updated_at) " +
+            "VALUES (:name, :watermark, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (name) DO UPDATE SET " +
+            "watermark = GREATEST(export_watermarks.watermark, EXCLUDED.watermark), updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    int advance(@Param("name") String name, @Param("watermark") LocalDateTime watermark);
+
+    // Delta windows are bounded by database time, the clock updated_at is written with
+    @Query(value = "SELECT LOCALTIMESTAMP", nativeQuery = true)
+    LocalDateTime currentDatabaseTime();
+}
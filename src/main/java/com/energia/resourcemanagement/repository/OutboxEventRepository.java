@@ -0,0 +1,34 @@
+package com.energia.resourcemanagement.repository;
+
+import com.energia.resourcemanagement.domain.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Buckets (see V12) that hold unrelayed events, one index probe each
+    @Query(value = "SELECT b FROM generate_series(0, 15) AS b " +
+            "WHERE EXISTS (SELECT 1 FROM resource_event_outbox o WHERE o.bucket = b)",
+            nativeQuery = true)
+    List<Integer> findPendingBuckets();
+
+    // Held until the claiming transaction ends; false while another relay instance works on the bucket
+    @Query(value = "SELECT pg_try_advisory_xact_lock('resource_event_outbox'::regclass::oid::int, :bucket)",
+            nativeQuery = true)
+    boolean tryLockBucket(@Param("bucket") int bucket);
+
+    @Query(value = "SELECT * FROM resource_event_outbox WHERE bucket = :bucket ORDER BY id LIMIT :limit",
+            nativeQuery = true)
+    List<OutboxEvent> findNextBatch(@Param("bucket") int bucket, @Param("limit") int limit);
+
+    // Age of the oldest unrelayed event; null when the outbox is empty
+    @Query(value = "SELECT EXTRACT(EPOCH FROM (LOCALTIMESTAMP - created_at)) " +
+            "FROM resource_event_outbox ORDER BY id LIMIT 1",
+            nativeQuery = true)
+    Double findOldestEventAgeSeconds();
+}
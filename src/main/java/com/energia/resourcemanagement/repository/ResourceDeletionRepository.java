@@ -0,0 +1,51 @@
+package com.energia.resourcemanagement.repository;
+
+import com.energia.resourcemanagement.domain.entity.ResourceDeletion;
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ResourceDeletionRepository extends JpaRepository<ResourceDeletion, UUID> {
+
+    String DELTA_FILTER = "d.deletedAt > :since AND d.deletedAt <= :until " +
+            "AND (:countryCode IS NULL OR d.countryCode = :countryCode) AND (:type IS NULL OR d.type = :type) ";
+
+    @Query("SELECT COUNT(d) FROM ResourceDeletion d WHERE " + DELTA_FILTER)
+    long countDelta(@Param("since") LocalDateTime since,
+                    @Param("until") LocalDateTime until,
+                    @Param("countryCode") String countryCode,
+                    @Param("type") ResourceType type);
+
+    @Query("SELECT d FROM ResourceDeletion d WHERE " + DELTA_FILTER + "ORDER BY d.deletedAt, d.resourceId")
+    List<ResourceDeletion> findDeltaChunk(@Param("since") LocalDateTime since,
+                                          @Param("until") LocalDateTime until,
+                                          @Param("countryCode") String countryCode,
+                                          @Param("type") ResourceType type,
+                                          Pageable pageable);
+
+    @Query("SELECT d FROM ResourceDeletion d WHERE " + DELTA_FILTER +
+            "AND (d.deletedAt > :cursorAt OR (d.deletedAt = :cursorAt AND d.resourceId > :cursorId)) " +
+            "ORDER BY d.deletedAt, d.resourceId")
+    List<ResourceDeletion> findDeltaChunkAfter(@Param("since") LocalDateTime since,
+                                               @Param("until") LocalDateTime until,
+                                               @Param("countryCode") String countryCode,
+                                               @Param("type") ResourceType type,
+                                               @Param("cursorAt") LocalDateTime cursorAt,
+                                               @Param("cursorId") UUID cursorId,
+                                               Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ResourceDeletion d WHERE d.deletedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -1,9 +1,11 @@
 package com.energia.resourcemanagement.repository;
 
 import com.energia.resourcemanagement.domain.entity.Resource;
+import com.energia.resourcemanagement.domain.enums.CharacteristicType;
 import com.energia.resourcemanagement.domain.enums.ResourceType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
@@ -11,6 +13,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,9 +25,31 @@ import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 @Repository
 public interface ResourceRepository extends JpaRepository<Resource, UUID> {
 
+    String DELTA_FILTER = "r.updatedAt > :since AND r.updatedAt <= :until " +
+            "AND (:countryCode IS NULL OR r.countryCode = :countryCode) AND (:type IS NULL OR r.type = :type) ";
+
+    String LIST_FILTER = "(:countryCode IS NULL OR r.countryCode = :countryCode) AND (:type IS NULL OR r.type = :type) ";
+
+    // Semi-join on idx_characteristics_type_code_value; all given fields must match the same characteristic
+    String CHARACTERISTIC_FILTER = "AND EXISTS (SELECT 1 FROM Characteristic c WHERE c.resource = r " +
+            "AND (:characteristicType IS NULL OR c.type = :characteristicType) " +
+            "AND (:characteristicCode IS NULL OR c.code = :characteristicCode) " +
+            "AND (:characteristicValue IS NULL OR c.value = :characteristicValue)) ";
+
     @Query("SELECT r FROM Resource r LEFT JOIN FETCH r.characteristics WHERE r.id = :id")
     Optional<Resource> findByIdWithCharacteristics(@Param("id") UUID id);
 
+    @Query("SELECT DISTINCT r FROM Resource r LEFT JOIN FETCH r.characteristics WHERE r.id IN :ids")
+    List<Resource> findAllByIdWithCharacteristics(@Param("ids") Collection<UUID> ids);
+
+    // Backs If-None-Match checks without loading the resource or its characteristics
+    @Query("SELECT r.version FROM Resource r WHERE r.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    // Moves on every committed write to resources or characteristics (see V8)
+    @Query(value = "SELECT COALESCE(SUM(changes), 0) FROM resource_change_counters", nativeQuery = true)
+    long getChangeCount();
+
     List<Resource> findByCountryCode(String countryCode);
 
     List<Resource> findByType(ResourceType type);
@@ -34,8 +60,140 @@ public interface ResourceRepository extends JpaRepository<Resource, UUID> {
 
     Page<Resource> findByType(ResourceType type, Pageable pageable);
 
+    // Slice variants fetch one row past the page instead of running a COUNT(*) next to it
+    Slice<Resource> findSliceByCountryCodeAndType(String countryCode, ResourceType type, Pageable pageable);
+
+    Slice<Resource> findSliceByCountryCode(String countryCode, Pageable pageable);
+
+    Slice<Resource> findSliceByType(ResourceType type, Pageable pageable);
+
+    Slice<Resource> findSliceBy(Pageable pageable);
+
+    // Planner row estimate, maintained by VACUUM and ANALYZE
+    @Query(value = "SELECT reltuples::bigint FROM pg_class WHERE oid = 'resources'::regclass", nativeQuery = true)
+    long estimateTotalCount();
+
+    @Query("SELECT COUNT(r) FROM Resource r WHERE " + LIST_FILTER)
+    long countFiltered(@Param("countryCode") String countryCode, @Param("type") ResourceType type);
+
+    @Query("SELECT r FROM Resource r WHERE " + LIST_FILTER + CHARACTERISTIC_FILTER)
+    Page<Resource> searchByCharacteristic(@Param("countryCode") String countryCode,
+                                          @Param("type") ResourceType type,
+                                          @Param("characteristicType") CharacteristicType characteristicType,
+                                          @Param("characteristicCode") String characteristicCode,
+                                          @Param("characteristicValue") String characteristicValue,
+                                          Pageable pageable);
+
+    @Query("SELECT r FROM Resource r WHERE " + LIST_FILTER + CHARACTERISTIC_FILTER)
+    Slice<Resource> searchSliceByCharacteristic(@Param("countryCode") String countryCode,
+                                                @Param("type") ResourceType type,
+                                                @Param("characteristicType") CharacteristicType characteristicType,
+                                                @Param("characteristicCode") String characteristicCode,
+                                                @Param("characteristicValue") String characteristicValue,
+                                                Pageable pageable);
+
+    @Query("SELECT COUNT(r) FROM Resource r WHERE " + LIST_FILTER + CHARACTERISTIC_FILTER)
+    long countByCharacteristic(@Param("countryCode") String countryCode,
+                               @Param("type") ResourceType type,
+                               @Param("characteristicType") CharacteristicType characteristicType,
+                               @Param("characteristicCode") String characteristicCode,
+                               @Param("characteristicValue") String characteristicValue);
+
+    // Keyset pages in (createdAt DESC, id DESC) order, served by idx_resources_created_at_id,
+    // or by the (country_code, type, created_at, id) variants of V13 when filtered
+    @Query("SELECT r FROM Resource r WHERE " + LIST_FILTER + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Resource> findKeysetPage(@Param("countryCode") String countryCode,
+                                  @Param("type") ResourceType type,
+                                  Pageable pageable);
+
+    // The redundant createdAt bound gives the index scan a start key instead of a filter
+    @Query("SELECT r FROM Resource r WHERE " + LIST_FILTER +
+            "AND r.createdAt <= :cursorAt AND (r.createdAt < :cursorAt OR r.id < :cursorId) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Resource> findKeysetPageAfter(@Param("countryCode") String countryCode,
+                                       @Param("type") ResourceType type,
+                                       @Param("cursorAt") LocalDateTime cursorAt,
+                                       @Param("cursorId") UUID cursorId,
+                                       Pageable pageable);
+
+    @Query("SELECT r FROM Resource r WHERE " + LIST_FILTER + CHARACTERISTIC_FILTER +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Resource> findKeysetPageByCharacteristic(@Param("countryCode") String countryCode,
+                                                  @Param("type") ResourceType type,
+                                                  @Param("characteristicType") CharacteristicType characteristicType,
+                                                  @Param("characteristicCode") String characteristicCode,
+                                                  @Param("characteristicValue") String characteristicValue,
+                                                  Pageable pageable);
+
+    @Query("SELECT r FROM Resource r WHERE " + LIST_FILTER + CHARACTERISTIC_FILTER +
+            "AND r.createdAt <= :cursorAt AND (r.createdAt < :cursorAt OR r.id < :cursorId) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Resource> findKeysetPageAfterByCharacteristic(@Param("countryCode") String countryCode,
+                                                       @Param("type") ResourceType type,
+                                                       @Param("characteristicType") CharacteristicType characteristicType,
+                                                       @Param("characteristicCode") String characteristicCode,
+                                                       @Param("characteristicValue") String characteristicValue,
+                                                       @Param("cursorAt") LocalDateTime cursorAt,
+                                                       @Param("cursorId") UUID cursorId,
+                                                       Pageable pageable);
+
     // CHANGED: Modified return type from List to Stream and added QueryHints
     @Query("SELECT r FROM Resource r LEFT JOIN FETCH r.characteristics")
     @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "20000"))
     Stream<Resource> findAllWithCharacteristics();
-}
\ No newline at end of file
+
+    @Query("SELECT r FROM Resource r LEFT JOIN FETCH r.characteristics " +
+            "WHERE (:countryCode IS NULL OR r.countryCode = :countryCode) " +
+            "AND (:type IS NULL OR r.type = :type) ORDER BY r.id")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<Resource> streamWithCharacteristics(@Param("countryCode") String countryCode,
+                                               @Param("type") ResourceType type);
+
+    // Offset pages read through a cursor; the page's characteristics are loaded chunk by chunk by the caller
+    @Query("SELECT r FROM Resource r WHERE " + LIST_FILTER)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    Stream<Resource> streamPage(@Param("countryCode") String countryCode,
+                                @Param("type") ResourceType type,
+                                Pageable pageable);
+
+    @Query("SELECT r FROM Resource r WHERE " + LIST_FILTER + CHARACTERISTIC_FILTER)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    Stream<Resource> streamPageByCharacteristic(@Param("countryCode") String countryCode,
+                                                @Param("type") ResourceType type,
+                                                @Param("characteristicType") CharacteristicType characteristicType,
+                                                @Param("characteristicCode") String characteristicCode,
+                                                @Param("characteristicValue") String characteristicValue,
+                                                Pageable pageable);
+
+    // Keyset chunks in id order, so the last id of an exported chunk is a valid resume cursor
+    @Query("SELECT r FROM Resource r WHERE r.id >= :lower AND r.id <= :upper ORDER BY r.id")
+    List<Resource> findExportChunkFrom(@Param("lower") UUID lower, @Param("upper") UUID upper, Pageable pageable);
+
+    @Query("SELECT r FROM Resource r WHERE r.id > :cursor AND r.id <= :upper ORDER BY r.id")
+    List<Resource> findExportChunkAfter(@Param("cursor") UUID cursor, @Param("upper") UUID upper, Pageable pageable);
+
+    @Query("SELECT COUNT(r) FROM Resource r WHERE " + DELTA_FILTER)
+    long countDelta(@Param("since") LocalDateTime since,
+                    @Param("until") LocalDateTime until,
+                    @Param("countryCode") String countryCode,
+                    @Param("type") ResourceType type);
+
+    // Delta keyset chunks in (updatedAt, id) order, served by idx_resources_updated_at_id
+    @Query("SELECT r FROM Resource r WHERE " + DELTA_FILTER + "ORDER BY r.updatedAt, r.id")
+    List<Resource> findDeltaChunk(@Param("since") LocalDateTime since,
+                                  @Param("until") LocalDateTime until,
+                                  @Param("countryCode") String countryCode,
+                                  @Param("type") ResourceType type,
+                                  Pageable pageable);
+
+    @Query("SELECT r FROM Resource r WHERE " + DELTA_FILTER +
+            "AND (r.updatedAt > :cursorAt OR (r.updatedAt = :cursorAt AND r.id > :cursorId)) " +
+            "ORDER BY r.updatedAt, r.id")
+    List<Resource> findDeltaChunkAfter(@Param("since") LocalDateTime since,
+                                       @Param("until") LocalDateTime until,
+                                       @Param("countryCode") String countryCode,
+                                       @Param("type") ResourceType type,
+                                       @Param("cursorAt") LocalDateTime cursorAt,
+                                       @Param("cursorId") UUID cursorId,
+                                       Pageable pageable);
+}
@@ -0,0 +1,17 @@
+package com.energia.resourcemanagement.service;
+
+import com.energia.resourcemanagement.dto.request.ExportJobRequest;
+import com.energia.resourcemanagement.dto.response.ExportJobResponse;
+
+import java.util.UUID;
+
+public interface ExportJobService {
+
+    ExportJobResponse startExportJob(ExportJobRequest request);
+
+    ExportJobResponse getExportJob(UUID id);
+
+    ExportJobResponse cancelExportJob(UUID id);
+
+    ExportJobResponse resumeExportJob(UUID id);
+}
@@ -1,27 +1,88 @@
 package com.energia.resourcemanagement.service;
 
+import com.energia.resourcemanagement.domain.enums.CharacteristicType;
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+import com.energia.resourcemanagement.dto.request.BatchOperation;
+import com.energia.resourcemanagement.dto.request.CharacteristicFilterRequest;
 import com.energia.resourcemanagement.dto.request.CreateResourceRequest;
+import com.energia.resourcemanagement.dto.request.DeleteResourcesRequest;
 import com.energia.resourcemanagement.dto.request.UpdateResourceRequest;
+import com.energia.resourcemanagement.dto.response.BatchGetResponse;
+import com.energia.resourcemanagement.dto.response.BatchMutationResponse;
+import com.energia.resourcemanagement.dto.response.BulkCreateSummary;
+import com.energia.resourcemanagement.dto.response.BulkItemResult;
+import com.energia.resourcemanagement.dto.response.CharacteristicResponse;
+import com.energia.resourcemanagement.dto.response.CursorPageResponse;
+import com.energia.resourcemanagement.dto.response.DeleteResourcesResponse;
 import com.energia.resourcemanagement.dto.response.ResourceResponse;
+import com.energia.resourcemanagement.dto.response.ResourceStatsResponse;
+import com.energia.resourcemanagement.dto.response.SliceResponse;
+import com.energia.resourcemanagement.service.export.DeltaExportFilter;
+import com.energia.resourcemanagement.service.export.ExportPartition;
+import com.energia.resourcemanagement.service.export.ExportProgress;
+import com.energia.resourcemanagement.service.projection.FieldSelection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ResourceService {
 
     ResourceResponse createResource(CreateResourceRequest request);
 
-    ResourceResponse getResource(UUID id);
+    BulkCreateSummary createResources(InputStream items, Consumer<BulkItemResult> results);
 
-    Page<ResourceResponse> getAllResources(String countryCode, String type, Pageable pageable);
+    // currentVersion, when the caller already read it, keeps an outdated cached copy from being returned
+    ResourceResponse getResource(UUID id, String fields, Long currentVersion);
+
+    BatchGetResponse getResources(List<UUID> ids);
+
+    long getResourceVersion(UUID id);
+
+    long getChangeCount();
+
+    Page<ResourceResponse> getAllResources(String countryCode, String type,
+                                           CharacteristicFilterRequest characteristics, String fields,
+                                           Pageable pageable);
+
+    SliceResponse<ResourceResponse> getResourceSlice(String countryCode, String type,
+                                                     CharacteristicFilterRequest characteristics, String fields,
+                                                     Pageable pageable, boolean approximateTotal);
+
+    CursorPageResponse<ResourceResponse> getResourcesAfter(String countryCode, String type,
+                                                           CharacteristicFilterRequest characteristics, String fields,
+                                                           String after, int size);
+
+    long streamResources(String countryCode, ResourceType type, Consumer<ResourceResponse> consumer);
+
+    // selection is null for full resources
+    long streamResourcePage(String countryCode, ResourceType type, CharacteristicFilterRequest characteristics,
+                            FieldSelection selection, Pageable pageable, Consumer<ResourceResponse> consumer);
 
     ResourceResponse updateResource(UUID id, UpdateResourceRequest request, Long version);
 
     void deleteResource(UUID id);
 
-    void exportAllToKafka();
+    DeleteResourcesResponse deleteResources(DeleteResourcesRequest filter);
+
+    CharacteristicResponse putCharacteristic(UUID id, CharacteristicType type, String code, String value, Long version);
+
+    long deleteCharacteristic(UUID id, CharacteristicType type, String code, Long version);
+
+    BatchMutationResponse applyBatch(List<BatchOperation> operations);
+
+    long exportAllToKafka(ExportProgress progress);
+
+    long exportPartitionToKafka(ExportPartition partition, String snapshotId, ExportProgress progress);
+
+    long exportDeltaToKafka(DeltaExportFilter filter, ExportProgress progress);
 
     long getTotalResourceCount();
+
+    ResourceStatsResponse getStats();
+
+    long countDelta(DeltaExportFilter filter);
 }
\ No newline at end of file
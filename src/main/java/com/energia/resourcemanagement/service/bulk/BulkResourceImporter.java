@@ -0,0 +1,162 @@
+package com.energia.resourcemanagement.service.bulk;
+
+import com.energia.resourcemanagement.domain.enums.BulkItemStatus;
+import com.energia.resourcemanagement.dto.common.CharacteristicDTO;
+import com.energia.resourcemanagement.dto.request.CreateResourceRequest;
+import com.energia.resourcemanagement.dto.response.BulkCreateSummary;
+import com.energia.resourcemanagement.dto.response.BulkItemResult;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// Reads a JSON array of create requests one item at a time, so only the current chunk is ever in memory.
+// Invalid items are reported right away; valid ones are inserted in chunks, each in its own transaction,
+// and reported once their chunk has committed or failed.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkResourceImporter {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ResourceBatchWriter batchWriter;
+
+    public BulkCreateSummary importResources(InputStream items, Consumer<BulkItemResult> results) {
+        BulkCreateSummary summary = new BulkCreateSummary();
+        List<PendingResource> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(items)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Request body must be a JSON array");
+            }
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new JsonParseException(parser, "Unexpected end of the JSON array");
+                }
+                long index = summary.getReceived();
+                summary.setReceived(index + 1);
+
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    reject(index, List.of("Item must be a JSON object"), summary, results);
+                    continue;
+                }
+
+                JsonNode item = parser.readValueAsTree();
+                List<String> errors = new ArrayList<>();
+                CreateResourceRequest request = read(item, errors);
+                if (!errors.isEmpty()) {
+                    reject(index, errors, summary, results);
+                    continue;
+                }
+
+                chunk.add(new PendingResource(index, UUID.randomUUID(), request));
+                if (chunk.size() == CHUNK_SIZE) {
+                    flush(chunk, summary, results);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Bulk create stopped after {} items: {}", summary.getReceived(), e.getOriginalMessage());
+            summary.setError(e.getLocation() == null ? e.getOriginalMessage() : e.getOriginalMessage()
+                    + " at line " + e.getLocation().getLineNr() + ", column " + e.getLocation().getColumnNr());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // Items read before a malformed part of the body are still inserted
+        if (!chunk.isEmpty()) {
+            flush(chunk, summary, results);
+        }
+
+        log.info("Bulk create finished - received: {}, created: {}, rejected: {}, failed: {}",
+                summary.getReceived(), summary.getCreated(), summary.getRejected(), summary.getFailed());
+        return summary;
+    }
+
+    // The same rules as a single create: bean validation plus no repeated code and type
+    private CreateResourceRequest read(JsonNode item, List<String> errors) {
+        CreateResourceRequest request;
+        try {
+            request = objectMapper.treeToValue(item, CreateResourceRequest.class);
+        } catch (JsonProcessingException e) {
+            errors.add(e.getOriginalMessage());
+            return null;
+        }
+
+        validator.validate(request).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .forEach(errors::add);
+
+        if (request.getCharacteristics() != null) {
+            Set<String> seen = new HashSet<>();
+            for (CharacteristicDTO characteristic : request.getCharacteristics()) {
+                if (characteristic == null) {
+                    errors.add("characteristics: must not contain null");
+                } else if (!seen.add(characteristic.getCode() + "_" + characteristic.getType())) {
+                    errors.add(String.format("characteristics: duplicate characteristic with code '%s' and type '%s'",
+                            characteristic.getCode(), characteristic.getType()));
+                }
+            }
+        }
+        return request;
+    }
+
+    private void flush(List<PendingResource> chunk, BulkCreateSummary summary, Consumer<BulkItemResult> results) {
+        BulkItemStatus status;
+        List<String> errors;
+        try {
+            batchWriter.insert(chunk);
+            status = BulkItemStatus.CREATED;
+            errors = null;
+            summary.setCreated(summary.getCreated() + chunk.size());
+        } catch (DataAccessException e) {
+            log.error("Bulk create chunk of {} items failed", chunk.size(), e);
+            status = BulkItemStatus.FAILED;
+            errors = List.of(e.getMostSpecificCause().getMessage());
+            summary.setFailed(summary.getFailed() + chunk.size());
+        }
+
+        for (PendingResource pending : chunk) {
+            results.accept(BulkItemResult.builder()
+                    .index(pending.index())
+                    .status(status)
+                    .id(status == BulkItemStatus.CREATED ? pending.id() : null)
+                    .errors(errors)
+                    .build());
+        }
+        chunk.clear();
+    }
+
+    private static void reject(long index, List<String> errors, BulkCreateSummary summary,
+                               Consumer<BulkItemResult> results) {
+        summary.setRejected(summary.getRejected() + 1);
+        results.accept(BulkItemResult.builder()
+                .index(index)
+                .status(BulkItemStatus.REJECTED)
+                .errors(errors)
+                .build());
+    }
+}
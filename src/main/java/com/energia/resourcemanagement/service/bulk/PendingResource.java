@@ -0,0 +1,9 @@
+package com.energia.resourcemanagement.service.bulk;
+
+import com.energia.resourcemanagement.dto.request.CreateResourceRequest;
+
+import java.util.UUID;
+
+// A validated bulk item with the id it will be inserted under
+public record PendingResource(long index, UUID id, CreateResourceRequest request) {
+}
@@ -0,0 +1,99 @@
+package com.energia.resourcemanagement.service.bulk;
+
+import com.energia.resourcemanagement.domain.enums.EventType;
+import com.energia.resourcemanagement.dto.common.CharacteristicDTO;
+import com.energia.resourcemanagement.dto.request.CreateResourceRequest;
+import com.energia.resourcemanagement.dto.response.ResourceResponse;
+import com.energia.resourcemanagement.kafka.event.ResourceEvent;
+import com.energia.resourcemanagement.kafka.outbox.ResourceEventOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Inserts a chunk of bulk-created resources with JDBC batches instead of one Hibernate persist each,
+// together with their characteristics and RESOURCE_CREATED events. With reWriteBatchedInserts the
+// driver sends each batch as multi-row INSERTs, so the statement-level triggers run once per batch.
+@Component
+@RequiredArgsConstructor
+public class ResourceBatchWriter {
+
+    private static final String INSERT_RESOURCE = "INSERT INTO resources (id, type, country_code, street_address, " +
+            "city, postal_code, location_country_code, created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String INSERT_CHARACTERISTIC =
+            "INSERT INTO characteristics (id, resource_id, code, type, value) VALUES (?, ?, ?, ?, ?)";
+
+    private record PendingCharacteristic(UUID resourceId, CharacteristicDTO characteristic) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ResourceEventOutbox eventOutbox;
+
+    @Transactional
+    public void insert(List<PendingResource> resources) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        jdbcTemplate.batchUpdate(INSERT_RESOURCE, resources, resources.size(), (ps, pending) -> {
+            CreateResourceRequest request = pending.request();
+            ps.setObject(1, pending.id());
+            ps.setString(2, request.getType().name());
+            ps.setString(3, request.getCountryCode());
+            ps.setString(4, request.getLocation().getStreetAddress());
+            ps.setString(5, request.getLocation().getCity());
+            ps.setString(6, request.getLocation().getPostalCode());
+            ps.setString(7, request.getLocation().getCountryCode());
+            ps.setTimestamp(8, timestamp);
+            ps.setTimestamp(9, timestamp);
+        });
+
+        List<PendingCharacteristic> characteristics = resources.stream()
+                .filter(pending -> pending.request().getCharacteristics() != null)
+                .flatMap(pending -> pending.request().getCharacteristics().stream()
+                        .map(characteristic -> new PendingCharacteristic(pending.id(), characteristic)))
+                .toList();
+        if (!characteristics.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CHARACTERISTIC, characteristics, characteristics.size(), (ps, pending) -> {
+                ps.setObject(1, UUID.randomUUID());
+                ps.setObject(2, pending.resourceId());
+                ps.setString(3, pending.characteristic().getCode());
+                ps.setString(4, pending.characteristic().getType().name());
+                ps.setString(5, pending.characteristic().getValue());
+            });
+        }
+
+        eventOutbox.appendAll(resources.stream()
+                .map(pending -> createdEvent(pending, now))
+                .toList());
+    }
+
+    private static ResourceEvent createdEvent(PendingResource pending, LocalDateTime now) {
+        CreateResourceRequest request = pending.request();
+        ResourceResponse resource = ResourceResponse.builder()
+                .id(pending.id())
+                .type(request.getType())
+                .countryCode(request.getCountryCode())
+                .location(request.getLocation())
+                .characteristics(request.getCharacteristics() != null ? request.getCharacteristics() : List.of())
+                .createdAt(now)
+                .updatedAt(now)
+                .version(0L)
+                .build();
+
+        return ResourceEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(EventType.RESOURCE_CREATED)
+                .resourceId(pending.id())
+                .resource(resource)
+                .timestamp(Instant.now())
+                .build();
+    }
+}
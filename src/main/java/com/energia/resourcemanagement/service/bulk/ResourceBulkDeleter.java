@@ -0,0 +1,122 @@
+package com.energia.resourcemanagement.service.bulk;
+
+import com.energia.resourcemanagement.domain.enums.EventType;
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+import com.energia.resourcemanagement.dto.request.DeleteResourcesRequest;
+import com.energia.resourcemanagement.dto.response.ResourceResponse;
+import com.energia.resourcemanagement.kafka.event.ResourceEvent;
+import com.energia.resourcemanagement.kafka.outbox.ResourceEventOutbox;
+import com.energia.resourcemanagement.service.cache.ResourceResponseCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+// Deletes every resource matching a filter with chunked DELETE ... RETURNING statements instead of loading
+// and removing each entity. Chunks walk the primary key, so each starts where the previous one ended and
+// only one chunk of returned rows is held at a time. Characteristics go with ON DELETE CASCADE; tombstones
+// (V6) and counts (V8, V11) are kept by the same triggers as for single deletes.
+// Each resource still gets its own RESOURCE_DELETED event, written to the outbox one JDBC batch per chunk:
+// events are keyed and relayed per resource id, so consumers see a bulk delete exactly like single deletes,
+// in order with that resource's other events, and a compacted topic keeps one tombstone per key.
+// The events carry the returned columns only, not the characteristics.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResourceBulkDeleter {
+
+    private static final String DELETE_RESOURCES = "DELETE FROM resources WHERE id IN (SELECT id FROM resources WHERE ";
+
+    private static final String RETURNING =
+            " ORDER BY id LIMIT ?) RETURNING id, type, country_code, created_at, updated_at, version";
+
+    // Resources per DELETE statement, and so outbox rows per JDBC batch
+    private static final int CHUNK_SIZE = 1000;
+
+    // PostgreSQL orders uuids by their unsigned bytes
+    private static final Comparator<UUID> UUID_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ResourceEventOutbox eventOutbox;
+    private final ResourceResponseCache resourceCache;
+
+    @Transactional
+    public int delete(DeleteResourcesRequest filter) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (filter.getCountryCode() != null) {
+            conditions.add("country_code = ?");
+            args.add(filter.getCountryCode());
+        }
+        if (filter.getType() != null) {
+            conditions.add("type = ?");
+            args.add(filter.getType().name());
+        }
+        if (filter.getUpdatedBefore() != null) {
+            conditions.add("updated_at < ?");
+            args.add(Timestamp.valueOf(filter.getUpdatedBefore()));
+        }
+        if (conditions.isEmpty()) {
+            throw new IllegalArgumentException("A delete by filter needs at least one filter");
+        }
+
+        int total = 0;
+        UUID after = null;
+        List<ResourceResponse> deleted;
+        do {
+            deleted = deleteChunk(conditions, args, after);
+            if (!deleted.isEmpty()) {
+                eventOutbox.appendAll(deleted.stream().map(ResourceBulkDeleter::deletedEvent).toList());
+                resourceCache.markAllDeletedAfterCommit(deleted.stream().map(ResourceResponse::getId).toList());
+                after = deleted.stream().map(ResourceResponse::getId).max(UUID_ORDER).orElseThrow();
+                total += deleted.size();
+            }
+        } while (deleted.size() == CHUNK_SIZE);
+
+        log.info("Deleted {} resources matching countryCode={}, type={}, updatedBefore={}", total,
+                filter.getCountryCode(), filter.getType(), filter.getUpdatedBefore());
+        return total;
+    }
+
+    private List<ResourceResponse> deleteChunk(List<String> conditions, List<Object> args, UUID after) {
+        List<String> chunkConditions = new ArrayList<>(conditions);
+        List<Object> chunkArgs = new ArrayList<>(args);
+        if (after != null) {
+            chunkConditions.add("id > ?");
+            chunkArgs.add(after);
+        }
+        chunkArgs.add(CHUNK_SIZE);
+
+        return jdbcTemplate.query(
+                DELETE_RESOURCES + String.join(" AND ", chunkConditions) + RETURNING,
+                (rs, rowNum) -> ResourceResponse.builder()
+                        .id(rs.getObject("id", UUID.class))
+                        .type(ResourceType.valueOf(rs.getString("type")))
+                        .countryCode(rs.getString("country_code"))
+                        .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                        .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+                        .version(rs.getLong("version"))
+                        .build(),
+                chunkArgs.toArray());
+    }
+
+    private static ResourceEvent deletedEvent(ResourceResponse resource) {
+        return ResourceEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(EventType.RESOURCE_DELETED)
+                .resourceId(resource.getId())
+                .resource(resource)
+                .timestamp(Instant.now())
+                .build();
+    }
+}
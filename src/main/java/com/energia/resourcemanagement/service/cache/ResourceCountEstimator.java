@@ -0,0 +1,69 @@
+package com.energia.resourcemanagement.service.cache;
+
+import com.energia.resourcemanagement.domain.enums.CharacteristicType;
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+import com.energia.resourcemanagement.dto.request.CharacteristicFilterRequest;
+import com.energia.resourcemanagement.repository.ResourceRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Rough resource totals for listings that skip the per-page COUNT(*). The unfiltered total is the
+// planner's row estimate; filtered totals are counted once and then reused until they expire.
+@Component
+@RequiredArgsConstructor
+public class ResourceCountEstimator {
+
+    private record Filter(String countryCode, ResourceType type, CharacteristicType characteristicType,
+                          String characteristicCode, String characteristicValue) {
+
+        boolean isEmpty() {
+            return countryCode == null && type == null && characteristicType == null
+                    && characteristicCode == null && characteristicValue == null;
+        }
+    }
+
+    private final ResourceRepository resourceRepository;
+
+    @Value("${resource.count-estimate.expire-after-write:1m}")
+    private Duration expireAfterWrite;
+
+    private Cache<Filter, Long> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    public long estimate(String countryCode, ResourceType type, CharacteristicFilterRequest characteristics) {
+        Filter filter = characteristics == null
+                ? new Filter(countryCode, type, null, null, null)
+                : new Filter(countryCode, type, characteristics.getCharacteristicType(),
+                characteristics.getCharacteristicCode(), characteristics.getCharacteristicValue());
+        return cache.get(filter, this::load);
+    }
+
+    private long load(Filter filter) {
+        if (filter.isEmpty()) {
+            // reltuples is -1 until the table has been vacuumed or analyzed once
+            long estimate = resourceRepository.estimateTotalCount();
+            if (estimate >= 0) {
+                return estimate;
+            }
+        }
+        if (filter.characteristicType() != null || filter.characteristicCode() != null
+                || filter.characteristicValue() != null) {
+            return resourceRepository.countByCharacteristic(filter.countryCode(), filter.type(),
+                    filter.characteristicType(), filter.characteristicCode(), filter.characteristicValue());
+        }
+        return resourceRepository.countFiltered(filter.countryCode(), filter.type());
+    }
+}
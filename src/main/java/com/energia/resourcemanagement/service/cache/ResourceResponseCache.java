@@ -0,0 +1,135 @@
+package com.energia.resourcemanagement.service.cache;
+
+import com.energia.resourcemanagement.dto.response.ResourceResponse;
+import com.energia.resourcemanagement.exception.ResourceNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+// Bounded per-instance cache of single-resource reads. Entries carry the resource version and an
+// older version never replaces a newer one, so a read that loaded a row just before an update
+// committed cannot put it back after the update. Writes made by other instances only evict the
+// entry when a caller passes the version it read from the database (a conditional GET does);
+// otherwise they show once the entry expires, so expire-after-write bounds that staleness.
+@Component
+@RequiredArgsConstructor
+public class ResourceResponseCache {
+
+    // Left in place of a deleted resource, so no stale read can re-insert it
+    private static final long DELETED = Long.MAX_VALUE;
+
+    // response is null for a deleted or invalidated resource
+    private record Entry(ResourceResponse response, long version) {
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${resource.cache.maximum-size:100000}")
+    private long maximumSize;
+
+    @Value("${resource.cache.expire-after-write:1m}")
+    private Duration expireAfterWrite;
+
+    private Cache<UUID, Entry> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        // cache.gets (hit/miss), cache.puts, cache.evictions and cache.size, tagged cache=resources
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "resources");
+    }
+
+    // A resource deleted through this instance is answered without a database round trip as well
+    public Optional<ResourceResponse> get(UUID id) {
+        return get(id, null);
+    }
+
+    // currentVersion is the version just read from the database, if the caller has it. An entry older
+    // than that missed a write made through another instance and is dropped instead of served.
+    public Optional<ResourceResponse> get(UUID id, Long currentVersion) {
+        Entry entry = cache.getIfPresent(id);
+        if (entry != null && entry.version() == DELETED) {
+            throw new ResourceNotFoundException(id);
+        }
+        if (entry != null && currentVersion != null && entry.version() < currentVersion) {
+            merge(id, new Entry(null, currentVersion));
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entry).map(Entry::response);
+    }
+
+    // Hits among ids; a resource deleted through this instance maps to an empty Optional
+    public Map<UUID, Optional<ResourceResponse>> getAll(Collection<UUID> ids) {
+        Map<UUID, Optional<ResourceResponse>> hits = new HashMap<>();
+        cache.getAllPresent(ids).forEach((id, entry) -> {
+            if (entry.version() == DELETED) {
+                hits.put(id, Optional.empty());
+            } else if (entry.response() != null) {
+                hits.put(id, Optional.of(entry.response()));
+            }
+        });
+        return hits;
+    }
+
+    public void put(ResourceResponse response) {
+        if (response.getId() == null || response.getVersion() == null) {
+            return;
+        }
+        merge(response.getId(), new Entry(response, response.getVersion()));
+    }
+
+    public void putAfterCommit(ResourceResponse response) {
+        afterCommit(() -> put(response));
+    }
+
+    public void markDeletedAfterCommit(UUID id) {
+        afterCommit(() -> cache.put(id, new Entry(null, DELETED)));
+    }
+
+    // One synchronization for a set-based delete rather than one per row
+    public void markAllDeletedAfterCommit(Collection<UUID> ids) {
+        afterCommit(() -> ids.forEach(id -> cache.put(id, new Entry(null, DELETED))));
+    }
+
+    // For writes that change a resource without loading it: drops the cached copy but keeps the new version,
+    // so only a read of that version or a later one is cached again
+    public void invalidateAfterCommit(UUID id, long version) {
+        afterCommit(() -> merge(id, new Entry(null, version)));
+    }
+
+    private void merge(UUID id, Entry candidate) {
+        cache.asMap().merge(id, candidate,
+                (current, replacement) -> replacement.version() >= current.version() ? replacement : current);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.energia.resourcemanagement.service.characteristic;
+
+import com.energia.resourcemanagement.domain.entity.Resource;
+import com.energia.resourcemanagement.domain.enums.CharacteristicType;
+import com.energia.resourcemanagement.domain.enums.EventType;
+import com.energia.resourcemanagement.dto.common.CharacteristicDTO;
+import com.energia.resourcemanagement.dto.response.CharacteristicResponse;
+import com.energia.resourcemanagement.exception.CharacteristicNotFoundException;
+import com.energia.resourcemanagement.exception.InvalidCharacteristicCodeException;
+import com.energia.resourcemanagement.exception.ResourceNotFoundException;
+import com.energia.resourcemanagement.kafka.event.ResourceEvent;
+import com.energia.resourcemanagement.kafka.outbox.ResourceEventOutbox;
+import com.energia.resourcemanagement.service.cache.ResourceResponseCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+// Writes a single characteristic without loading the resource aggregate. The resource row is locked
+// for the version check, and its version (the ETag) and updated_at move only when the characteristic
+// actually changed. Each change publishes a CHARACTERISTIC_* event with that characteristic only.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CharacteristicWriter {
+
+    private static final Pattern CODE = Pattern.compile("^[A-Z0-9]{1,5}$");
+
+    private static final String LOCK_RESOURCE = "SELECT version FROM resources WHERE id = ? FOR UPDATE";
+
+    // Returns no row when the value is unchanged; xmax is 0 only for a freshly inserted row
+    private static final String UPSERT_CHARACTERISTIC = "INSERT INTO characteristics (id, resource_id, code, type, value) " +
+            "VALUES (?, ?, ?, ?, ?) ON CONFLICT ON CONSTRAINT uk_resource_code_type " +
+            "DO UPDATE SET value = EXCLUDED.value WHERE characteristics.value IS DISTINCT FROM EXCLUDED.value " +
+            "RETURNING (xmax = 0) AS inserted";
+
+    private static final String DELETE_CHARACTERISTIC =
+            "DELETE FROM characteristics WHERE resource_id = ? AND type = ? AND code = ?";
+
+    private static final String BUMP_VERSION =
+            "UPDATE resources SET version = version + 1, updated_at = ? WHERE id = ? RETURNING version";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ResourceEventOutbox eventOutbox;
+    private final ResourceResponseCache resourceCache;
+
+    @Transactional
+    public CharacteristicResponse put(UUID resourceId, CharacteristicType type, String code, String value,
+                                      Long expectedVersion) {
+        validateCode(code);
+        long version = lockResource(resourceId, expectedVersion);
+
+        List<Boolean> written = jdbcTemplate.queryForList(UPSERT_CHARACTERISTIC, Boolean.class,
+                UUID.randomUUID(), resourceId, code, type.name(), value);
+        CharacteristicDTO characteristic = CharacteristicDTO.builder().code(code).type(type).value(value).build();
+        if (!written.isEmpty()) {
+            version = bumpVersion(resourceId);
+            publish(written.get(0) ? EventType.CHARACTERISTIC_CREATED : EventType.CHARACTERISTIC_UPDATED,
+                    resourceId, characteristic, version);
+        }
+
+        return CharacteristicResponse.builder()
+                .resourceId(resourceId)
+                .code(code)
+                .type(type)
+                .value(value)
+                .resourceVersion(version)
+                .build();
+    }
+
+    // Returns the resource version after the delete
+    @Transactional
+    public long delete(UUID resourceId, CharacteristicType type, String code, Long expectedVersion) {
+        validateCode(code);
+        lockResource(resourceId, expectedVersion);
+
+        if (jdbcTemplate.update(DELETE_CHARACTERISTIC, resourceId, type.name(), code) == 0) {
+            throw new CharacteristicNotFoundException(resourceId, type, code);
+        }
+        long version = bumpVersion(resourceId);
+        publish(EventType.CHARACTERISTIC_DELETED, resourceId,
+                CharacteristicDTO.builder().code(code).type(type).build(), version);
+        return version;
+    }
+
+    private static void validateCode(String code) {
+        if (!CODE.matcher(code).matches()) {
+            throw new InvalidCharacteristicCodeException(code);
+        }
+    }
+
+    private long lockResource(UUID resourceId, Long expectedVersion) {
+        Long version = jdbcTemplate.queryForList(LOCK_RESOURCE, Long.class, resourceId).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException(resourceId));
+        if (expectedVersion != null && !expectedVersion.equals(version)) {
+            throw new ObjectOptimisticLockingFailureException(Resource.class, resourceId);
+        }
+        return version;
+    }
+
+    private long bumpVersion(UUID resourceId) {
+        Long version = jdbcTemplate.queryForObject(BUMP_VERSION, Long.class,
+                Timestamp.valueOf(LocalDateTime.now()), resourceId);
+        resourceCache.invalidateAfterCommit(resourceId, version);
+        return version;
+    }
+
+    private void publish(EventType eventType, UUID resourceId, CharacteristicDTO characteristic, long version) {
+        eventOutbox.append(ResourceEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(eventType)
+                .resourceId(resourceId)
+                .characteristic(characteristic)
+                .resourceVersion(version)
+                .timestamp(Instant.now())
+                .build());
+        log.debug("{} {}/{} on resource {}, now at version {}", eventType, characteristic.getType(),
+                characteristic.getCode(), resourceId, version);
+    }
+}
@@ -0,0 +1,31 @@
+package com.energia.resourcemanagement.service.export;
+
+import com.energia.resourcemanagement.repository.ResourceDeletionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// Keeps the deletion log bounded. Consumers whose watermark is older than the retention
+// miss tombstones and have to start over with a full export.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeletionLogPruner {
+
+    private final ResourceDeletionRepository deletionRepository;
+
+    @Value("${export.delta.deletion-retention-days:30}")
+    private int retentionDays;
+
+    @Scheduled(cron = "${export.delta.deletion-prune-cron:0 30 3 * * *}")
+    public void prune() {
+        int pruned = deletionRepository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays));
+        if (pruned > 0) {
+            log.info("Pruned {} deletion log entries older than {} days", pruned, retentionDays);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.energia.resourcemanagement.service.export;
+
+import com.energia.resourcemanagement.domain.entity.ExportJob;
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+
+import java.time.LocalDateTime;
+
+// Rows changed or deleted in (since, until], optionally narrowed to one country and/or type
+public record DeltaExportFilter(LocalDateTime since, LocalDateTime until, String countryCode, ResourceType type) {
+
+    public static DeltaExportFilter of(ExportJob job) {
+        return new DeltaExportFilter(job.getUpdatedSince(), job.getUpdatedUntil(), job.getCountryCode(),
+                job.getResourceType());
+    }
+}
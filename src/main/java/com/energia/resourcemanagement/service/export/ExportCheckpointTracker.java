@@ -0,0 +1,62 @@
+package com.energia.resourcemanagement.service.export;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+
+// Advances a partition's keyset checkpoint in send order, and only past chunks whose
+// records have all been acknowledged. A failed chunk surfaces as a CompletionException.
+public class ExportCheckpointTracker {
+
+    @FunctionalInterface
+    public interface CheckpointWriter {
+        void write(ExportCursor cursor, long rowsExported, long bytesSent);
+    }
+
+    private record PendingChunk(CompletableFuture<Long> acknowledged, ExportCursor cursor, int rows) {
+    }
+
+    private final Deque<PendingChunk> pending = new ArrayDeque<>();
+    private final CheckpointWriter writer;
+
+    private long rowsExported;
+    private long bytesSent;
+    // Rows acknowledged by this run, excluding what an earlier run had already checkpointed
+    private long rowsAcknowledged;
+
+    public ExportCheckpointTracker(long rowsExported, long bytesSent, CheckpointWriter writer) {
+        this.rowsExported = rowsExported;
+        this.bytesSent = bytesSent;
+        this.writer = writer;
+    }
+
+    public void chunkSent(CompletableFuture<Long> acknowledged, ExportCursor cursor, int rows) {
+        pending.add(new PendingChunk(acknowledged, cursor, rows));
+        checkpointCompleted();
+    }
+
+    public void awaitAll() {
+        while (!pending.isEmpty()) {
+            pending.peek().acknowledged().join();
+            checkpointCompleted();
+        }
+    }
+
+    public long getRowsAcknowledged() {
+        return rowsAcknowledged;
+    }
+
+    private void checkpointCompleted() {
+        ExportCursor cursor = null;
+        while (!pending.isEmpty() && pending.peek().acknowledged().isDone()) {
+            PendingChunk chunk = pending.poll();
+            bytesSent += chunk.acknowledged().join();
+            rowsExported += chunk.rows();
+            rowsAcknowledged += chunk.rows();
+            cursor = chunk.cursor();
+        }
+        if (cursor != null) {
+            writer.write(cursor, rowsExported, bytesSent);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.energia.resourcemanagement.service.export;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Position of the last exported row. Full exports order by id only; delta exports order by
+// (timestamp, id), so their cursors also carry the row's updated_at or deleted_at.
+public record ExportCursor(UUID resourceId, LocalDateTime timestamp) {
+
+    public static ExportCursor of(UUID resourceId) {
+        return new ExportCursor(resourceId, null);
+    }
+}
@@ -0,0 +1,40 @@
+package com.energia.resourcemanagement.service.export;
+
+import lombok.Value;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Inclusive UUID key range scanned by one parallel export worker
+@Value
+public class ExportPartition {
+
+    private static final BigInteger KEY_SPACE = BigInteger.ONE.shiftLeft(128);
+    private static final BigInteger LONG_MASK = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+    int index;
+    UUID lowerBound;
+    UUID upperBound;
+
+    // Splits the whole 128-bit key space into equal, disjoint ranges. Random (v4) ids spread evenly
+    // across them; the bounds are only ever compared in SQL, where uuid ordering is unsigned.
+    public static List<ExportPartition> split(int count) {
+        BigInteger step = KEY_SPACE.divide(BigInteger.valueOf(count));
+        List<ExportPartition> partitions = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            BigInteger lower = step.multiply(BigInteger.valueOf(i));
+            BigInteger upper = i == count - 1
+                    ? KEY_SPACE.subtract(BigInteger.ONE)
+                    : lower.add(step).subtract(BigInteger.ONE);
+            partitions.add(new ExportPartition(i, toUuid(lower), toUuid(upper)));
+        }
+        return partitions;
+    }
+
+    private static UUID toUuid(BigInteger value) {
+        return new UUID(value.shiftRight(64).and(LONG_MASK).longValue(), value.and(LONG_MASK).longValue());
+    }
+}
@@ -0,0 +1,76 @@
+package com.energia.resourcemanagement.service.export;
+
+import lombok.Getter;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Live counters of a running export, shared between the export loop, Kafka callbacks and the job service
+public class ExportProgress {
+
+    @Getter
+    private final UUID jobId;
+
+    private final AtomicLong rowsExported = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+    private final AtomicLong failedRecords = new AtomicLong();
+
+    // Set for per-partition progress of a parallel export; counters roll up into the job progress
+    private final ExportProgress parent;
+
+    private volatile boolean cancelled;
+
+    public ExportProgress(UUID jobId) {
+        this(jobId, null);
+    }
+
+    private ExportProgress(UUID jobId, ExportProgress parent) {
+        this.jobId = jobId;
+        this.parent = parent;
+    }
+
+    public ExportProgress forPartition() {
+        return new ExportProgress(jobId, this);
+    }
+
+    // Seeds counters from a checkpoint when a job is resumed; does not roll up into the parent
+    public void restore(long rows, long bytes) {
+        rowsExported.set(rows);
+        bytesSent.set(bytes);
+    }
+
+    public void recordAcknowledged(int records, long bytes) {
+        rowsExported.addAndGet(records);
+        bytesSent.addAndGet(bytes);
+        if (parent != null) {
+            parent.recordAcknowledged(records, bytes);
+        }
+    }
+
+    public void recordFailed(int records) {
+        failedRecords.addAndGet(records);
+        if (parent != null) {
+            parent.recordFailed(records);
+        }
+    }
+
+    public long getRowsExported() {
+        return rowsExported.get();
+    }
+
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    public long getFailedRecords() {
+        return failedRecords.get();
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled || (parent != null && parent.isCancelled());
+    }
+}
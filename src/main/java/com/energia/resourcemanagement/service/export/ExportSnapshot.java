@@ -0,0 +1,65 @@
+package com.energia.resourcemanagement.service.export;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+// Holds a REPEATABLE READ transaction open so that other transactions can import its snapshot
+// via SET TRANSACTION SNAPSHOT and all see the same point-in-time view of the database.
+@Slf4j
+public class ExportSnapshot implements AutoCloseable {
+
+    private static final Pattern SNAPSHOT_ID = Pattern.compile("^[0-9A-Fa-f-]+$");
+
+    private final Connection connection;
+
+    @Getter
+    private final String snapshotId;
+
+    private ExportSnapshot(Connection connection, String snapshotId) {
+        this.connection = connection;
+        this.snapshotId = snapshotId;
+    }
+
+    public static ExportSnapshot open(DataSource dataSource) throws SQLException {
+        Connection connection = dataSource.getConnection();
+        try {
+            connection.setAutoCommit(false);
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            connection.setReadOnly(true);
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT pg_export_snapshot()")) {
+                resultSet.next();
+                return new ExportSnapshot(connection, resultSet.getString(1));
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    // The snapshot id has to be inlined into SET TRANSACTION SNAPSHOT, which accepts no bind parameters
+    public static String importStatement(String snapshotId) {
+        if (snapshotId == null || !SNAPSHOT_ID.matcher(snapshotId).matches()) {
+            throw new IllegalArgumentException("Invalid snapshot id: " + snapshotId);
+        }
+        return "SET TRANSACTION SNAPSHOT '" + snapshotId + "'";
+    }
+
+    @Override
+    public void close() {
+        try {
+            connection.rollback();
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("Failed to release export snapshot {}: {}", snapshotId, e.getMessage());
+        }
+    }
+}
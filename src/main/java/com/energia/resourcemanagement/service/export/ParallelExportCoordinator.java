@@ -0,0 +1,152 @@
+package com.energia.resourcemanagement.service.export;
+
+import com.energia.resourcemanagement.domain.entity.ExportJobPartition;
+import com.energia.resourcemanagement.exception.InvalidExportRequestException;
+import com.energia.resourcemanagement.repository.ExportJobPartitionRepository;
+import com.energia.resourcemanagement.service.ResourceService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+// Runs one export as N workers over disjoint key ranges that all read the same exported snapshot.
+// A running job needs up to 2 * workers + 1 pooled connections: the snapshot owner, each worker's
+// read transaction, and each worker's checkpoint upsert, which commits in a transaction of its own
+// (it cannot share the read-only snapshot transaction). Jobs take that many connections from a budget
+// of the pool minus export.parallel.reserved-connections, so they cannot starve request traffic.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParallelExportCoordinator {
+
+    private final DataSource dataSource;
+    private final ResourceService resourceService;
+    private final ExportJobPartitionRepository partitionRepository;
+    private final ThreadPoolTaskExecutor exportWorkerExecutor;
+
+    @Value("${export.parallel.default-workers:1}")
+    private int defaultWorkers;
+
+    @Value("${export.parallel.max-workers:4}")
+    private int maxWorkers;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int maximumPoolSize;
+
+    @Value("${export.parallel.reserved-connections:4}")
+    private int reservedConnections;
+
+    private int connectionBudget;
+    private Semaphore connections;
+
+    @PostConstruct
+    void init() {
+        connectionBudget = Math.max(0, maximumPoolSize - reservedConnections);
+        connections = new Semaphore(connectionBudget, true);
+    }
+
+    public int resolveWorkerCount(Integer requested) {
+        int workers = requested != null ? requested : defaultWorkers;
+        if (workers < 1 || workers > maxWorkers) {
+            throw new InvalidExportRequestException(
+                    String.format("Worker count must be between 1 and %d, got %d", maxWorkers, workers));
+        }
+        if (workers > 1 && connectionsFor(workers) > connectionBudget) {
+            throw new InvalidExportRequestException(String.format(
+                    "%d workers need %d database connections, but parallel exports may use %d",
+                    workers, connectionsFor(workers), connectionBudget));
+        }
+        return workers;
+    }
+
+    public void export(ExportProgress progress, int workers) {
+        List<ExportPartition> partitions = ExportPartition.split(workers);
+
+        // Waits for earlier parallel jobs to hand back their connections
+        int needed = connectionsFor(workers);
+        if (!connections.tryAcquire(needed)) {
+            log.info("Export job {} waiting for {} database connections", progress.getJobId(), needed);
+            try {
+                connections.acquire(needed);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for database connections", e);
+            }
+        }
+        try {
+            exportOnSnapshot(progress, partitions);
+        } finally {
+            connections.release(needed);
+        }
+    }
+
+    private static int connectionsFor(int workers) {
+        return 2 * workers + 1;
+    }
+
+    private void exportOnSnapshot(ExportProgress progress, List<ExportPartition> partitions) {
+        int workers = partitions.size();
+        try (ExportSnapshot snapshot = ExportSnapshot.open(dataSource)) {
+            log.info("Export job {} running {} workers on snapshot {}",
+                    progress.getJobId(), workers, snapshot.getSnapshotId());
+
+            List<CompletableFuture<Void>> futures = partitions.stream()
+                    .map(partition -> CompletableFuture
+                            .runAsync(() -> exportPartition(partition, snapshot.getSnapshotId(), progress),
+                                    exportWorkerExecutor)
+                            .whenComplete((result, ex) -> {
+                                // One failed range fails the job, so stop the remaining workers early
+                                if (ex != null) {
+                                    progress.cancel();
+                                }
+                            }))
+                    .toList();
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException(e.getCause());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to export a database snapshot", e);
+        }
+    }
+
+    private void exportPartition(ExportPartition partition, String snapshotId, ExportProgress progress) {
+        // A resumed job reuses the partition rows of its earlier run, rewound to their checkpoints
+        ExportJobPartition stats = partitionRepository
+                .findByJobIdAndPartitionIndex(progress.getJobId(), partition.getIndex())
+                .orElseGet(() -> partitionRepository.save(ExportJobPartition.builder()
+                        .jobId(progress.getJobId())
+                        .partitionIndex(partition.getIndex())
+                        .lowerBound(partition.getLowerBound())
+                        .upperBound(partition.getUpperBound())
+                        .startedAt(LocalDateTime.now())
+                        .build()));
+
+        ExportProgress partitionProgress = progress.forPartition();
+        partitionProgress.restore(stats.getRowsExported(), stats.getBytesSent());
+        try {
+            resourceService.exportPartitionToKafka(partition, snapshotId, partitionProgress);
+        } finally {
+            stats.setRowsExported(partitionProgress.getRowsExported());
+            stats.setBytesSent(partitionProgress.getBytesSent());
+            stats.setFailedRecords(partitionProgress.getFailedRecords());
+            stats.setFinishedAt(LocalDateTime.now());
+            partitionRepository.save(stats);
+
+            log.info("Export job {} partition {} done: {} rows, {} rows/s",
+                    progress.getJobId(), partition.getIndex(), stats.getRowsExported(), stats.getThroughputPerSecond());
+        }
+    }
+}
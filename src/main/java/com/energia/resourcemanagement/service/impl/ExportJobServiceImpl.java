@@ -0,0 +1,339 @@
+package com.energia.resourcemanagement.service.impl;
+
+import com.energia.resourcemanagement.domain.entity.ExportCheckpoint;
+import com.energia.resourcemanagement.domain.entity.ExportJob;
+import com.energia.resourcemanagement.domain.entity.ExportJobPartition;
+import com.energia.resourcemanagement.domain.entity.ExportWatermark;
+import com.energia.resourcemanagement.domain.enums.ExportJobStatus;
+import com.energia.resourcemanagement.domain.enums.ExportMode;
+import com.energia.resourcemanagement.dto.request.ExportJobRequest;
+import com.energia.resourcemanagement.dto.response.ExportJobResponse;
+import com.energia.resourcemanagement.exception.ExportJobNotFoundException;
+import com.energia.resourcemanagement.exception.ExportJobRejectedException;
+import com.energia.resourcemanagement.exception.ExportJobStateException;
+import com.energia.resourcemanagement.exception.DeltaExportExpiredException;
+import com.energia.resourcemanagement.exception.InvalidExportRequestException;
+import com.energia.resourcemanagement.mapper.ExportJobMapper;
+import com.energia.resourcemanagement.repository.ExportCheckpointRepository;
+import com.energia.resourcemanagement.repository.ExportJobPartitionRepository;
+import com.energia.resourcemanagement.repository.ExportJobRepository;
+import com.energia.resourcemanagement.repository.ExportWatermarkRepository;
+import com.energia.resourcemanagement.service.ExportJobService;
+import com.energia.resourcemanagement.service.ResourceService;
+import com.energia.resourcemanagement.service.export.DeltaExportFilter;
+import com.energia.resourcemanagement.service.export.ExportProgress;
+import com.energia.resourcemanagement.service.export.ParallelExportCoordinator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportJobServiceImpl implements ExportJobService {
+
+    private static final List<ExportJobStatus> CANCELLABLE = List.of(ExportJobStatus.QUEUED, ExportJobStatus.RUNNING);
+    private static final List<ExportJobStatus> RESUMABLE = List.of(ExportJobStatus.FAILED, ExportJobStatus.CANCELLED);
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+    private static final LocalDateTime DELTA_EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ExportJobRepository exportJobRepository;
+    private final ExportJobMapper exportJobMapper;
+    private final ExportJobPartitionRepository partitionRepository;
+    private final ExportCheckpointRepository checkpointRepository;
+    private final ExportWatermarkRepository watermarkRepository;
+    private final ResourceService resourceService;
+    private final ParallelExportCoordinator parallelExportCoordinator;
+    private final ThreadPoolTaskExecutor exportTaskExecutor;
+
+    @Value("${export.job.stale-after-ms:60000}")
+    private long staleAfterMs;
+
+    @Value("${export.delta.commit-lag-ms:30000}")
+    private long commitLagMs;
+
+    @Value("${export.delta.deletion-retention-days:30}")
+    private int deletionRetentionDays;
+
+    // Jobs queued or running on this instance
+    private final Map<UUID, ExportProgress> activeJobs = new ConcurrentHashMap<>();
+
+    @Override
+    public ExportJobResponse startExportJob(ExportJobRequest request) {
+        ExportJob job = exportJobRepository.save(request.deltaRequested() ? deltaJob(request) : fullJob(request));
+        log.info("{} export job {} queued for {} resources with {} worker(s)",
+                job.getMode(), job.getId(), job.getTotalResources(), job.getWorkerCount());
+
+        ExportProgress progress = new ExportProgress(job.getId());
+        activeJobs.put(job.getId(), progress);
+        submitAfterCommit(job, progress);
+
+        return toResponse(job);
+    }
+
+    @Override
+    public ExportJobResponse getExportJob(UUID id) {
+        ExportJob job = exportJobRepository.findById(id)
+                .orElseThrow(() -> new ExportJobNotFoundException(id));
+
+        return toResponse(job);
+    }
+
+    @Override
+    public ExportJobResponse cancelExportJob(UUID id) {
+        log.info("Cancelling export job {}", id);
+
+        ExportJob job = exportJobRepository.findById(id)
+                .orElseThrow(() -> new ExportJobNotFoundException(id));
+
+        if (exportJobRepository.cancel(id, CANCELLABLE, ExportJobStatus.CANCELLED, LocalDateTime.now()) == 0) {
+            throw new ExportJobStateException(id, job.getStatus(), "cancelled");
+        }
+
+        ExportProgress progress = activeJobs.get(id);
+        if (progress != null) {
+            progress.cancel();
+        }
+
+        return getExportJob(id);
+    }
+
+    @Override
+    @Transactional
+    public ExportJobResponse resumeExportJob(UUID id) {
+        log.info("Resuming export job {}", id);
+
+        ExportJob job = exportJobRepository.findById(id)
+                .orElseThrow(() -> new ExportJobNotFoundException(id));
+
+        LocalDateTime staleBefore = LocalDateTime.now().minus(Duration.ofMillis(staleAfterMs));
+        if (activeJobs.containsKey(id)
+                || exportJobRepository.requeue(id, RESUMABLE, ExportJobStatus.RUNNING, staleBefore,
+                ExportJobStatus.QUEUED) == 0) {
+            throw new ExportJobStateException(id, job.getStatus(), "resumed");
+        }
+
+        // Rewind counters to the checkpoints: rows sent after them are sent again (at-least-once)
+        Map<Integer, ExportCheckpoint> checkpoints = checkpointRepository.findByJobId(id).stream()
+                .collect(Collectors.toMap(ExportCheckpoint::getPartitionIndex, Function.identity()));
+        long rows = checkpoints.values().stream().mapToLong(ExportCheckpoint::getRowsExported).sum();
+        long bytes = checkpoints.values().stream().mapToLong(ExportCheckpoint::getBytesSent).sum();
+        exportJobRepository.updateProgress(id, rows, bytes, 0, LocalDateTime.now());
+
+        List<ExportJobPartition> partitions = partitionRepository.findByJobIdOrderByPartitionIndex(id);
+        partitions.forEach(partition -> {
+            ExportCheckpoint checkpoint = checkpoints.get(partition.getPartitionIndex());
+            partition.setRowsExported(checkpoint != null ? checkpoint.getRowsExported() : 0);
+            partition.setBytesSent(checkpoint != null ? checkpoint.getBytesSent() : 0);
+            partition.setFailedRecords(0);
+            partition.setFinishedAt(null);
+        });
+        partitionRepository.saveAll(partitions);
+
+        ExportProgress progress = new ExportProgress(id);
+        progress.restore(rows, bytes);
+        activeJobs.put(id, progress);
+        submitAfterCommit(job, progress);
+
+        return getExportJob(id);
+    }
+
+    // Persists live counters and picks up cancellations issued through other instances
+    @Scheduled(fixedDelayString = "${export.job.progress-flush-interval-ms:2000}")
+    public void flushProgress() {
+        activeJobs.values().forEach(progress -> {
+            UUID jobId = progress.getJobId();
+            exportJobRepository.updateProgress(jobId,
+                    progress.getRowsExported(), progress.getBytesSent(), progress.getFailedRecords(),
+                    LocalDateTime.now());
+
+            exportJobRepository.findStatusById(jobId)
+                    .filter(ExportJobStatus.CANCELLED::equals)
+                    .ifPresent(status -> progress.cancel());
+        });
+    }
+
+    private ExportJob fullJob(ExportJobRequest request) {
+        if (request.hasFilters()) {
+            throw new InvalidExportRequestException(
+                    "countryCode and type filters require a delta export (updatedSince or watermark)");
+        }
+
+        return ExportJob.builder()
+                .status(ExportJobStatus.QUEUED)
+                .workerCount(parallelExportCoordinator.resolveWorkerCount(request.getWorkers()))
+                .totalResources(resourceService.getTotalResourceCount())
+                .build();
+    }
+
+    private ExportJob deltaJob(ExportJobRequest request) {
+        if (request.getUpdatedSince() != null && request.getWatermark() != null) {
+            throw new InvalidExportRequestException("Pass either updatedSince or watermark, not both");
+        }
+        if (request.getWorkers() != null && request.getWorkers() != 1) {
+            throw new InvalidExportRequestException("Delta exports run with a single worker");
+        }
+
+        // A consumer without a stored watermark gets everything on its first run
+        LocalDateTime since = request.getUpdatedSince() != null
+                ? request.getUpdatedSince()
+                : watermarkRepository.findById(request.getWatermark())
+                .map(ExportWatermark::getWatermark)
+                .orElse(DELTA_EPOCH);
+        LocalDateTime databaseTime = watermarkRepository.currentDatabaseTime();
+        // Tombstones older than the retention are pruned, so a delta from before it would silently miss
+        // deletions. The first run of a watermark has nothing to delete and may start from the epoch.
+        if (!since.equals(DELTA_EPOCH) && since.isBefore(databaseTime.minusDays(deletionRetentionDays))) {
+            throw new DeltaExportExpiredException("Deletions before " + databaseTime.minusDays(deletionRetentionDays)
+                    + " are no longer retained; start over with a full export");
+        }
+        // updated_at is the start time of the writing transaction, so rows of transactions still open
+        // now could later commit with an older timestamp. Stopping short of now leaves them to the next run.
+        LocalDateTime until = databaseTime.minus(Duration.ofMillis(commitLagMs));
+
+        ExportJob job = ExportJob.builder()
+                .status(ExportJobStatus.QUEUED)
+                .mode(ExportMode.DELTA)
+                .updatedSince(since)
+                .updatedUntil(until)
+                .countryCode(request.getCountryCode())
+                .resourceType(request.getType())
+                .watermarkName(request.getWatermark())
+                .build();
+        job.setTotalResources(resourceService.countDelta(DeltaExportFilter.of(job)));
+        return job;
+    }
+
+    private void submitAfterCommit(ExportJob job, ExportProgress progress) {
+        // The worker must not start before the QUEUED row is visible to its own transaction
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(job, progress);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        activeJobs.remove(progress.getJobId());
+                    }
+                }
+            });
+        } else {
+            submit(job, progress);
+        }
+    }
+
+    private void submit(ExportJob job, ExportProgress progress) {
+        try {
+            exportTaskExecutor.execute(() -> runJob(job, progress));
+        } catch (TaskRejectedException e) {
+            activeJobs.remove(progress.getJobId());
+            exportJobRepository.finish(progress.getJobId(), ExportJobStatus.QUEUED, ExportJobStatus.FAILED,
+                    0, 0, 0, "Rejected: export queue is full", LocalDateTime.now());
+            throw new ExportJobRejectedException(progress.getJobId());
+        }
+    }
+
+    private void runJob(ExportJob job, ExportProgress progress) {
+        UUID jobId = progress.getJobId();
+        try {
+            if (exportJobRepository.transition(jobId, ExportJobStatus.QUEUED, ExportJobStatus.RUNNING,
+                    LocalDateTime.now()) == 0) {
+                log.info("Export job {} is no longer queued, skipping", jobId);
+                return;
+            }
+
+            if (job.getMode() == ExportMode.DELTA) {
+                resourceService.exportDeltaToKafka(DeltaExportFilter.of(job), progress);
+            } else if (job.getWorkerCount() > 1) {
+                parallelExportCoordinator.export(progress, job.getWorkerCount());
+            } else {
+                resourceService.exportAllToKafka(progress);
+            }
+
+            ExportJobStatus status = progress.isCancelled() ? ExportJobStatus.CANCELLED : ExportJobStatus.COMPLETED;
+            if (complete(progress, status, null) && status == ExportJobStatus.COMPLETED
+                    && job.getWatermarkName() != null) {
+                watermarkRepository.advance(job.getWatermarkName(), job.getUpdatedUntil());
+                log.info("Watermark {} advanced to {}", job.getWatermarkName(), job.getUpdatedUntil());
+            }
+            log.info("Export job {} finished: {} rows, {} bytes, {} failed",
+                    jobId, progress.getRowsExported(), progress.getBytesSent(), progress.getFailedRecords());
+        } catch (Exception e) {
+            log.error("Export job {} failed", jobId, e);
+            complete(progress, ExportJobStatus.FAILED, e.getMessage());
+        } finally {
+            activeJobs.remove(jobId);
+        }
+    }
+
+    // Returns false when the job had been cancelled in the meantime
+    private boolean complete(ExportProgress progress, ExportJobStatus status, String errorMessage) {
+        if (errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH) {
+            errorMessage = errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+        }
+
+        int updated = exportJobRepository.finish(progress.getJobId(), ExportJobStatus.RUNNING, status,
+                progress.getRowsExported(), progress.getBytesSent(), progress.getFailedRecords(),
+                errorMessage, LocalDateTime.now());
+
+        if (updated == 0) {
+            // Cancelled by a request in the meantime: keep that status, only store the final counters
+            exportJobRepository.updateProgress(progress.getJobId(),
+                    progress.getRowsExported(), progress.getBytesSent(), progress.getFailedRecords(),
+                    LocalDateTime.now());
+        }
+        return updated > 0;
+    }
+
+    private ExportJobResponse toResponse(ExportJob job) {
+        ExportProgress progress = activeJobs.get(job.getId());
+        if (progress != null && job.getStatus() == ExportJobStatus.RUNNING) {
+            job.setRowsExported(progress.getRowsExported());
+            job.setBytesSent(progress.getBytesSent());
+            job.setFailedRecords(progress.getFailedRecords());
+        }
+
+        ExportJobResponse response = exportJobMapper.toResponse(job);
+        if (job.getWorkerCount() > 1) {
+            response.setPartitions(exportJobMapper.toPartitionResponseList(
+                    partitionRepository.findByJobIdOrderByPartitionIndex(job.getId())));
+        }
+        if (job.getStatus() == ExportJobStatus.QUEUED || job.getStatus() == ExportJobStatus.RUNNING) {
+            response.setEstimatedSecondsRemaining(estimateSecondsRemaining(job));
+        }
+        return response;
+    }
+
+    // Uses the job's own rate once it is running, otherwise the rate of the last completed export
+    private Long estimateSecondsRemaining(ExportJob job) {
+        long remaining = Math.max(0, job.getTotalResources() - job.getRowsExported());
+
+        Double throughput = job.getThroughputPerSecond();
+        if (throughput == null || throughput <= 0) {
+            throughput = exportJobRepository.findFirstByStatusOrderByFinishedAtDesc(ExportJobStatus.COMPLETED)
+                    .map(ExportJob::getThroughputPerSecond)
+                    .orElse(null);
+        }
+
+        return throughput != null && throughput > 0 ? (long) Math.ceil(remaining / throughput) : null;
+    }
+}
@@ -1,29 +1,79 @@
 package com.energia.resourcemanagement.service.impl;
 
 import com.energia.resourcemanagement.domain.entity.Characteristic;
+import com.energia.resourcemanagement.domain.entity.ExportCheckpoint;
 import com.energia.resourcemanagement.domain.entity.Resource;
+import com.energia.resourcemanagement.domain.enums.BatchOperationStatus;
+import com.energia.resourcemanagement.domain.enums.BatchOperationType;
+import com.energia.resourcemanagement.domain.enums.CharacteristicType;
 import com.energia.resourcemanagement.domain.enums.EventType;
 import com.energia.resourcemanagement.domain.enums.ResourceType;
+import com.energia.resourcemanagement.dto.common.CharacteristicDTO;
+import com.energia.resourcemanagement.dto.request.BatchOperation;
+import com.energia.resourcemanagement.dto.request.CharacteristicFilterRequest;
 import com.energia.resourcemanagement.dto.request.CreateResourceRequest;
+import com.energia.resourcemanagement.dto.request.DeleteResourcesRequest;
 import com.energia.resourcemanagement.dto.request.UpdateResourceRequest;
+import com.energia.resourcemanagement.dto.response.BatchGetResponse;
+import com.energia.resourcemanagement.dto.response.BatchMutationResponse;
+import com.energia.resourcemanagement.dto.response.BatchOperationResult;
+import com.energia.resourcemanagement.dto.response.BulkCreateSummary;
+import com.energia.resourcemanagement.dto.response.BulkItemResult;
+import com.energia.resourcemanagement.dto.response.CharacteristicResponse;
+import com.energia.resourcemanagement.dto.response.CursorPageResponse;
+import com.energia.resourcemanagement.dto.response.DeleteResourcesResponse;
 import com.energia.resourcemanagement.dto.response.ResourceResponse;
+import com.energia.resourcemanagement.dto.response.ResourceStatsResponse;
+import com.energia.resourcemanagement.dto.response.SliceResponse;
 import com.energia.resourcemanagement.exception.DuplicateCharacteristicException;
 import com.energia.resourcemanagement.exception.ResourceNotFoundException;
 import com.energia.resourcemanagement.kafka.event.ResourceEvent;
+import com.energia.resourcemanagement.kafka.outbox.ResourceEventOutbox;
 import com.energia.resourcemanagement.kafka.producer.ResourceEventProducer;
 import com.energia.resourcemanagement.mapper.ResourceMapper;
+import com.energia.resourcemanagement.mapper.ResourceResponseAssembler;
+import com.energia.resourcemanagement.repository.ExportCheckpointRepository;
+import com.energia.resourcemanagement.repository.ResourceDeletionRepository;
 import com.energia.resourcemanagement.repository.ResourceRepository;
 import com.energia.resourcemanagement.service.ResourceService;
+import com.energia.resourcemanagement.service.bulk.BulkResourceImporter;
+import com.energia.resourcemanagement.service.bulk.ResourceBulkDeleter;
+import com.energia.resourcemanagement.service.characteristic.CharacteristicWriter;
+import com.energia.resourcemanagement.service.cache.ResourceCountEstimator;
+import com.energia.resourcemanagement.service.cache.ResourceResponseCache;
+import com.energia.resourcemanagement.service.export.DeltaExportFilter;
+import com.energia.resourcemanagement.service.export.ExportCheckpointTracker;
+import com.energia.resourcemanagement.service.export.ExportCursor;
+import com.energia.resourcemanagement.service.export.ExportPartition;
+import com.energia.resourcemanagement.service.export.ExportProgress;
+import com.energia.resourcemanagement.service.export.ExportSnapshot;
+import com.energia.resourcemanagement.service.export.ResourceExportReader;
+import com.energia.resourcemanagement.service.pagination.ResourceCursor;
+import com.energia.resourcemanagement.service.projection.FieldSelection;
+import com.energia.resourcemanagement.service.projection.ResourceField;
+import com.energia.resourcemanagement.service.projection.ResourceProjectionQuery;
+import com.energia.resourcemanagement.service.stats.ResourceStatistics;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 @Slf4j
@@ -31,28 +81,45 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 public class ResourceServiceImpl implements ResourceService {
 
+    // Also the size of the characteristics IN list, so it stays well below the bind parameter limit
+    private static final int EXPORT_CHUNK_SIZE = 5000;
+
+    // Resources held in memory at a time while a list page is streamed
+    private static final int STREAM_CHUNK_SIZE = 500;
+
+    // Checkpoint slots of a delta export: changed resources first, then tombstones
+    private static final int DELTA_CHANGES_PARTITION = 0;
+    private static final int DELTA_DELETIONS_PARTITION = 1;
+
+    // A batch operation that changed a resource; deleted holds the state from before its delete
+    private record AppliedOperation(BatchOperationResult result, EventType eventType,
+                                    Resource resource, ResourceResponse deleted) {
+    }
+
     private final ResourceRepository resourceRepository;
     private final ResourceMapper resourceMapper;
+    private final ResourceResponseAssembler responseAssembler;
     private final ResourceEventProducer eventProducer;
+    private final ResourceEventOutbox eventOutbox;
+    private final JdbcTemplate jdbcTemplate;
+    private final ExportCheckpointRepository exportCheckpointRepository;
+    private final ResourceDeletionRepository resourceDeletionRepository;
+    private final EntityManager entityManager;
+    private final ResourceExportReader exportReader;
+    private final ResourceResponseCache resourceCache;
+    private final ResourceCountEstimator countEstimator;
+    private final ResourceStatistics resourceStatistics;
+    private final ResourceProjectionQuery projectionQuery;
+    private final BulkResourceImporter bulkImporter;
+    private final ResourceBulkDeleter bulkDeleter;
+    private final CharacteristicWriter characteristicWriter;
 
     @Override
     @Transactional
     public ResourceResponse createResource(CreateResourceRequest request) {
         log.info("Creating new resource with type: {} and country: {}", request.getType(), request.getCountryCode());
 
-        Resource resource = resourceMapper.toEntity(request);
-        resource.setLocation(resourceMapper.toLocation(request.getLocation()));
-
-        if (request.getCharacteristics() != null && !request.getCharacteristics().isEmpty()) {
-            validateCharacteristics(request.getCharacteristics());
-
-            request.getCharacteristics().forEach(charDTO -> {
-                Characteristic characteristic = resourceMapper.toCharacteristic(charDTO);
-                resource.addCharacteristic(characteristic);
-            });
-        }
-
-        Resource savedResource = resourceRepository.save(resource);
+        Resource savedResource = resourceRepository.save(newResource(request));
         log.info("Resource created with id: {}", savedResource.getId());
 
         ResourceResponse response = resourceMapper.toResponse(savedResource);
@@ -61,25 +128,119 @@ public class ResourceServiceImpl implements ResourceService {
         return response;
     }
 
+    // Not transactional: every chunk commits on its own, so a large import never holds one long transaction
     @Override
-    @Transactional(readOnly = true)
-    public ResourceResponse getResource(UUID id) {
+    public BulkCreateSummary createResources(InputStream items, Consumer<BulkItemResult> results) {
+        log.info("Bulk creating resources");
+        return bulkImporter.importResources(items, results);
+    }
+
+    // Not transactional, so a cache hit does not take a connection from the pool.
+    // The join fetch loads everything the mapping needs in the repository call's own transaction.
+    @Override
+    public ResourceResponse getResource(UUID id, String fields, Long currentVersion) {
         log.info("Fetching resource with id: {}", id);
 
+        FieldSelection selection = FieldSelection.parse(fields);
+        Optional<ResourceResponse> cached = resourceCache.get(id, currentVersion);
+        if (cached.isPresent()) {
+            return selection != null ? selection.apply(cached.get()) : cached.get();
+        }
+
+        if (selection != null) {
+            // Partial, so it is not cached
+            return projectionQuery.findById(id, selection)
+                    .orElseThrow(() -> new ResourceNotFoundException(id));
+        }
+
         Resource resource = resourceRepository.findByIdWithCharacteristics(id)
                 .orElseThrow(() -> new ResourceNotFoundException(id));
 
-        return resourceMapper.toResponse(resource);
+        ResourceResponse response = resourceMapper.toResponse(resource);
+        resourceCache.put(response);
+        return response;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BatchGetResponse getResources(List<UUID> ids) {
+        Set<UUID> requested = new LinkedHashSet<>(ids);
+        log.info("Fetching {} resources by id", requested.size());
+
+        Map<UUID, Optional<ResourceResponse>> cached = resourceCache.getAll(requested);
+        List<UUID> toLoad = requested.stream()
+                .filter(id -> !cached.containsKey(id))
+                .toList();
+
+        Map<UUID, ResourceResponse> found = new HashMap<>();
+        cached.forEach((id, response) -> response.ifPresent(hit -> found.put(id, hit)));
+        if (!toLoad.isEmpty()) {
+            // One IN query for the rows and one for their characteristics, whatever the number of ids
+            responseAssembler.toResponses(resourceRepository.findAllById(toLoad)).forEach(response -> {
+                resourceCache.put(response);
+                found.put(response.getId(), response);
+            });
+        }
+
+        List<ResourceResponse> resources = new ArrayList<>(found.size());
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID id : requested) {
+            ResourceResponse response = found.get(id);
+            if (response != null) {
+                resources.add(response);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        return BatchGetResponse.builder()
+                .resources(resources)
+                .missingIds(missingIds)
+                .build();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ResourceResponse> getAllResources(String countryCode, String type, Pageable pageable) {
-        log.info("Fetching resources with filters - country: {}, type: {}", countryCode, type);
+    public long getResourceVersion(UUID id) {
+        return resourceRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getChangeCount() {
+        return resourceRepository.getChangeCount();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ResourceResponse> getAllResources(String countryCode, String type,
+                                                  CharacteristicFilterRequest characteristics, String fields,
+                                                  Pageable pageable) {
+        log.info("Fetching resources with filters - country: {}, type: {}, characteristics: {}, fields: {}",
+                countryCode, type, characteristics, fields);
+
+        FieldSelection selection = FieldSelection.parse(fields);
+        if (selection != null) {
+            ResourceType resourceType = type != null ? ResourceType.valueOf(type) : null;
+            List<ResourceResponse> content = projectionQuery.findPage(countryCode, resourceType, characteristics,
+                    selection, pageable.getOffset(), pageable.getPageSize(), pageable.getSort());
+            return PageableExecutionUtils.getPage(content, pageable,
+                    () -> hasCriteria(characteristics)
+                            ? resourceRepository.countByCharacteristic(countryCode, resourceType,
+                            characteristics.getCharacteristicType(), characteristics.getCharacteristicCode(),
+                            characteristics.getCharacteristicValue())
+                            : resourceRepository.countFiltered(countryCode, resourceType));
+        }
 
         Page<Resource> resources;
 
-        if (countryCode != null && type != null) {
+        if (hasCriteria(characteristics)) {
+            ResourceType resourceType = type != null ? ResourceType.valueOf(type) : null;
+            resources = resourceRepository.searchByCharacteristic(countryCode, resourceType,
+                    characteristics.getCharacteristicType(), characteristics.getCharacteristicCode(),
+                    characteristics.getCharacteristicValue(), pageable);
+        } else if (countryCode != null && type != null) {
             ResourceType resourceType = ResourceType.valueOf(type);
             resources = resourceRepository.findByCountryCodeAndType(countryCode, resourceType, pageable);
         } else if (countryCode != null) {
@@ -91,7 +252,190 @@ public class ResourceServiceImpl implements ResourceService {
             resources = resourceRepository.findAll(pageable);
         }
 
-        return resources.map(resourceMapper::toResponse);
+        return new PageImpl<>(responseAssembler.toResponses(resources.getContent()),
+                resources.getPageable(), resources.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<ResourceResponse> getResourceSlice(String countryCode, String type,
+                                                            CharacteristicFilterRequest characteristics, String fields,
+                                                            Pageable pageable, boolean approximateTotal) {
+        log.info("Fetching resource slice with filters - country: {}, type: {}, characteristics: {}, fields: {}",
+                countryCode, type, characteristics, fields);
+
+        ResourceType resourceType = type != null ? ResourceType.valueOf(type) : null;
+        Long total = approximateTotal ? countEstimator.estimate(countryCode, resourceType, characteristics) : null;
+
+        FieldSelection selection = FieldSelection.parse(fields);
+        if (selection != null) {
+            List<ResourceResponse> rows = projectionQuery.findPage(countryCode, resourceType, characteristics,
+                    selection, pageable.getOffset(), pageable.getPageSize() + 1, pageable.getSort());
+            boolean hasNext = rows.size() > pageable.getPageSize();
+            return SliceResponse.<ResourceResponse>builder()
+                    .content(hasNext ? rows.subList(0, pageable.getPageSize()) : rows)
+                    .page(pageable.getPageNumber())
+                    .size(pageable.getPageSize())
+                    .hasNext(hasNext)
+                    .approximateTotal(total)
+                    .build();
+        }
+
+        Slice<Resource> resources;
+
+        if (hasCriteria(characteristics)) {
+            resources = resourceRepository.searchSliceByCharacteristic(countryCode, resourceType,
+                    characteristics.getCharacteristicType(), characteristics.getCharacteristicCode(),
+                    characteristics.getCharacteristicValue(), pageable);
+        } else if (countryCode != null && resourceType != null) {
+            resources = resourceRepository.findSliceByCountryCodeAndType(countryCode, resourceType, pageable);
+        } else if (countryCode != null) {
+            resources = resourceRepository.findSliceByCountryCode(countryCode, pageable);
+        } else if (resourceType != null) {
+            resources = resourceRepository.findSliceByType(resourceType, pageable);
+        } else {
+            resources = resourceRepository.findSliceBy(pageable);
+        }
+
+        return SliceResponse.<ResourceResponse>builder()
+                .content(responseAssembler.toResponses(resources.getContent()))
+                .page(resources.getNumber())
+                .size(resources.getSize())
+                .hasNext(resources.hasNext())
+                .approximateTotal(total)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ResourceResponse> getResourcesAfter(String countryCode, String type,
+                                                                  CharacteristicFilterRequest characteristics,
+                                                                  String fields, String after, int size) {
+        log.info("Fetching resources after cursor {} with filters - country: {}, type: {}, characteristics: {}, fields: {}",
+                after, countryCode, type, characteristics, fields);
+
+        ResourceType resourceType = type != null ? ResourceType.valueOf(type) : null;
+        // One extra row tells whether another page follows without a count query
+        Pageable limit = PageRequest.ofSize(size + 1);
+
+        ResourceCursor cursor = after == null || after.isEmpty() ? null : ResourceCursor.decode(after);
+
+        FieldSelection selection = FieldSelection.parse(fields);
+        if (selection != null) {
+            return getProjectedResourcesAfter(countryCode, resourceType, characteristics, selection, cursor, size);
+        }
+
+        List<Resource> resources;
+        if (hasCriteria(characteristics)) {
+            resources = cursor == null
+                    ? resourceRepository.findKeysetPageByCharacteristic(countryCode, resourceType,
+                    characteristics.getCharacteristicType(), characteristics.getCharacteristicCode(),
+                    characteristics.getCharacteristicValue(), limit)
+                    : resourceRepository.findKeysetPageAfterByCharacteristic(countryCode, resourceType,
+                    characteristics.getCharacteristicType(), characteristics.getCharacteristicCode(),
+                    characteristics.getCharacteristicValue(), cursor.createdAt(), cursor.id(), limit);
+        } else if (cursor == null) {
+            resources = resourceRepository.findKeysetPage(countryCode, resourceType, limit);
+        } else {
+            resources = resourceRepository.findKeysetPageAfter(
+                    countryCode, resourceType, cursor.createdAt(), cursor.id(), limit);
+        }
+
+        boolean hasNext = resources.size() > size;
+        List<Resource> page = hasNext ? resources.subList(0, size) : resources;
+        Resource last = hasNext ? page.get(page.size() - 1) : null;
+
+        return CursorPageResponse.<ResourceResponse>builder()
+                .content(responseAssembler.toResponses(page))
+                .size(page.size())
+                .nextCursor(last != null ? new ResourceCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .build();
+    }
+
+    // The cursor needs createdAt, so it is read even when the client did not select it
+    private CursorPageResponse<ResourceResponse> getProjectedResourcesAfter(String countryCode, ResourceType type,
+                                                                            CharacteristicFilterRequest characteristics,
+                                                                            FieldSelection selection,
+                                                                            ResourceCursor cursor, int size) {
+        List<ResourceResponse> rows = projectionQuery.findPageAfter(countryCode, type, characteristics,
+                selection.with(ResourceField.CREATED_AT), cursor, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<ResourceResponse> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext
+                ? new ResourceCursor(page.get(size - 1).getCreatedAt(), page.get(size - 1).getId()).encode()
+                : null;
+        if (!selection.includes(ResourceField.CREATED_AT)) {
+            page.forEach(response -> response.setCreatedAt(null));
+        }
+
+        return CursorPageResponse.<ResourceResponse>builder()
+                .content(page)
+                .size(page.size())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamResources(String countryCode, ResourceType type, Consumer<ResourceResponse> consumer) {
+        log.info("Streaming resources with filters - country: {}, type: {}", countryCode, type);
+        long count = 0;
+
+        try (Stream<Resource> stream = resourceRepository.streamWithCharacteristics(countryCode, type)) {
+            Iterator<Resource> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                Resource resource = iterator.next();
+                consumer.accept(resourceMapper.toResponse(resource));
+                // Keeps the persistence context (and memory use) flat however many rows are streamed
+                entityManager.detach(resource);
+                count++;
+            }
+        }
+
+        log.info("Streamed {} resources", count);
+        return count;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamResourcePage(String countryCode, ResourceType type, CharacteristicFilterRequest characteristics,
+                                   FieldSelection selection, Pageable pageable, Consumer<ResourceResponse> consumer) {
+        log.info("Streaming resource page {} with filters - country: {}, type: {}, characteristics: {}, fields: {}",
+                pageable, countryCode, type, characteristics, selection);
+        // Without characteristics in the selection the per-chunk characteristics query is skipped
+        Function<List<Resource>, List<ResourceResponse>> toResponses =
+                selection == null || selection.includes(ResourceField.CHARACTERISTICS)
+                        ? responseAssembler::toResponses
+                        : chunk -> chunk.stream().map(resourceMapper::toResponseWithoutCharacteristics).toList();
+        Consumer<ResourceResponse> target = selection == null
+                ? consumer
+                : response -> consumer.accept(selection.apply(response));
+        long count = 0;
+
+        Stream<Resource> resources = hasCriteria(characteristics)
+                ? resourceRepository.streamPageByCharacteristic(countryCode, type,
+                        characteristics.getCharacteristicType(), characteristics.getCharacteristicCode(),
+                        characteristics.getCharacteristicValue(), pageable)
+                : resourceRepository.streamPage(countryCode, type, pageable);
+
+        try (resources) {
+            Iterator<Resource> iterator = resources.iterator();
+            List<Resource> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == STREAM_CHUNK_SIZE || !iterator.hasNext()) {
+                    // One characteristics query per chunk, then the chunk leaves the persistence context
+                    toResponses.apply(chunk).forEach(target);
+                    count += chunk.size();
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+        }
+
+        log.info("Streamed {} resources", count);
+        return count;
     }
 
     @Override
@@ -107,25 +451,16 @@ public class ResourceServiceImpl implements ResourceService {
                     Resource.class, id);
         }
 
-        if (request.getLocation() != null) {
-            resource.setLocation(resourceMapper.toLocation(request.getLocation()));
-        }
-
-        if (request.getCharacteristics() != null) {
-            validateCharacteristics(request.getCharacteristics());
-
-            resource.getCharacteristics().clear();
-            request.getCharacteristics().forEach(charDTO -> {
-                Characteristic characteristic = resourceMapper.toCharacteristic(charDTO);
-                resource.addCharacteristic(characteristic);
-            });
-        }
+        applyUpdate(resource, request);
 
         Resource updatedResource = resourceRepository.save(resource);
+        // Increments the version now, so the response and the cached copy carry the committed one
+        resourceRepository.flush();
         log.info("Resource updated successfully with id: {}", id);
 
         ResourceResponse response = resourceMapper.toResponse(updatedResource);
         publishResourceEvent(EventType.RESOURCE_UPDATED, updatedResource.getId(), response);
+        resourceCache.putAfterCommit(response);
 
         return response;
     }
@@ -144,74 +479,345 @@ public class ResourceServiceImpl implements ResourceService {
         log.info("Resource deleted successfully with id: {}", id);
 
         publishResourceEvent(EventType.RESOURCE_DELETED, id, response);
+        resourceCache.markDeletedAfterCommit(id);
     }
 
-    // CHANGED: Complete method replacement - stream-based implementation
+    @Override
+    public DeleteResourcesResponse deleteResources(DeleteResourcesRequest filter) {
+        return DeleteResourcesResponse.builder()
+                .deleted(bulkDeleter.delete(filter))
+                .build();
+    }
 
     @Override
-    @Transactional(readOnly = true)
-    public void exportAllToKafka() {
-        log.info("Starting stream-based bulk export");
-        AtomicLong totalProcessed = new AtomicLong(0);
+    public CharacteristicResponse putCharacteristic(UUID id, CharacteristicType type, String code, String value,
+                                                    Long version) {
+        log.info("Setting characteristic {}/{} of resource {}", type, code, id);
+        return characteristicWriter.put(id, type, code, value, version);
+    }
 
-        try (Stream<Resource> stream = resourceRepository.findAllWithCharacteristics()) {
+    @Override
+    public long deleteCharacteristic(UUID id, CharacteristicType type, String code, Long version) {
+        log.info("Deleting characteristic {}/{} of resource {}", type, code, id);
+        return characteristicWriter.delete(id, type, code, version);
+    }
 
-            List<Resource> batch = new ArrayList<>(20000);
+    // One transaction for the whole batch. Targets are loaded with one query, and the writes go out as
+    // JDBC batches at the single flush. Operations that cannot apply are reported and skipped; a failure
+    // at flush or commit, e.g. a concurrent update, rolls back the whole batch.
+    @Override
+    @Transactional
+    public BatchMutationResponse applyBatch(List<BatchOperation> operations) {
+        log.info("Applying batch of {} operations", operations.size());
+
+        Set<UUID> targetIds = operations.stream()
+                .filter(operation -> operation.getOp() != BatchOperationType.CREATE && operation.getId() != null)
+                .map(BatchOperation::getId)
+                .collect(Collectors.toSet());
+        Map<UUID, Resource> targets = targetIds.isEmpty() ? new HashMap<>() : resourceRepository
+                .findAllByIdWithCharacteristics(targetIds).stream()
+                .collect(Collectors.toMap(Resource::getId, Function.identity()));
+
+        List<BatchOperationResult> results = new ArrayList<>(operations.size());
+        List<AppliedOperation> applied = new ArrayList<>();
+
+        for (int index = 0; index < operations.size(); index++) {
+            BatchOperation operation = operations.get(index);
+            BatchOperationResult result = BatchOperationResult.builder()
+                    .index(index)
+                    .op(operation.getOp())
+                    .id(operation.getId())
+                    .build();
+            results.add(result);
 
-            stream.forEach(resource -> {
-                batch.add(resource);
+            try {
+                applyOperation(operation, result, targets, applied);
+            } catch (DuplicateCharacteristicException e) {
+                result.setStatus(BatchOperationStatus.INVALID);
+                result.setMessage(e.getMessage());
+            }
+        }
 
-                if (batch.size() >= 20000) {
-                    List<ResourceResponse> responses = resourceMapper.toResponseList(batch);
-                    eventProducer.sendBulkExport(responses);
+        // Assigns the new versions and timestamps the results and events carry
+        resourceRepository.flush();
+
+        List<ResourceEvent> events = new ArrayList<>(applied.size());
+        for (AppliedOperation operation : applied) {
+            ResourceResponse response = operation.deleted() != null
+                    ? operation.deleted()
+                    : resourceMapper.toResponse(operation.resource());
+            if (operation.eventType() == EventType.RESOURCE_DELETED) {
+                resourceCache.markDeletedAfterCommit(response.getId());
+            } else {
+                operation.result().setId(response.getId());
+                operation.result().setVersion(response.getVersion());
+                resourceCache.putAfterCommit(response);
+            }
+            events.add(resourceEvent(operation.eventType(), response.getId(), response));
+        }
+        if (!events.isEmpty()) {
+            eventOutbox.appendAll(events);
+        }
 
-                    log.info("Processed chunk, total: {}", totalProcessed.addAndGet(20000));
-                    batch.clear();
-                }
-            });
+        log.info("Batch applied: {} of {} operations", applied.size(), operations.size());
+        return BatchMutationResponse.builder()
+                .results(results)
+                .build();
+    }
 
-            // Last Batch
-            if (!batch.isEmpty()) {
-                List<ResourceResponse> responses = resourceMapper.toResponseList(batch);
-                eventProducer.sendBulkExport(responses);
-                totalProcessed.addAndGet(batch.size());
+    private void applyOperation(BatchOperation operation, BatchOperationResult result,
+                                Map<UUID, Resource> targets, List<AppliedOperation> applied) {
+        if (operation.getOp() == BatchOperationType.CREATE) {
+            if (operation.getCreate() == null) {
+                invalid(result, "create is required for CREATE");
+                return;
             }
+            Resource resource = resourceRepository.save(newResource(operation.getCreate()));
+            result.setStatus(BatchOperationStatus.CREATED);
+            applied.add(new AppliedOperation(result, EventType.RESOURCE_CREATED, resource, null));
+            return;
         }
 
-        log.info("Stream export completed. Total: {}", totalProcessed.get());
+        if (operation.getId() == null) {
+            invalid(result, "id is required for " + operation.getOp());
+            return;
+        }
+        Resource resource = targets.get(operation.getId());
+        if (resource == null) {
+            result.setStatus(BatchOperationStatus.NOT_FOUND);
+            result.setMessage(new ResourceNotFoundException(operation.getId()).getMessage());
+            return;
+        }
+        if (operation.getVersion() != null && !operation.getVersion().equals(resource.getVersion())) {
+            result.setStatus(BatchOperationStatus.CONFLICT);
+            result.setVersion(resource.getVersion());
+            result.setMessage(String.format("Expected version %d but found %d",
+                    operation.getVersion(), resource.getVersion()));
+            return;
+        }
+
+        if (operation.getOp() == BatchOperationType.UPDATE) {
+            if (operation.getUpdate() == null) {
+                invalid(result, "update is required for UPDATE");
+                return;
+            }
+            applyUpdate(resource, operation.getUpdate());
+            result.setStatus(BatchOperationStatus.UPDATED);
+            applied.add(new AppliedOperation(result, EventType.RESOURCE_UPDATED, resource, null));
+        } else {
+            ResourceResponse deleted = resourceMapper.toResponse(resource);
+            resourceRepository.delete(resource);
+            // Later operations on the same id see it as gone
+            targets.remove(operation.getId());
+            result.setStatus(BatchOperationStatus.DELETED);
+            applied.add(new AppliedOperation(result, EventType.RESOURCE_DELETED, resource, deleted));
+        }
+    }
+
+    private static void invalid(BatchOperationResult result, String message) {
+        result.setStatus(BatchOperationStatus.INVALID);
+        result.setMessage(message);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportAllToKafka(ExportProgress progress) {
+        log.info("Starting chunked bulk export for job {}", progress.getJobId());
+
+        // A serial export is a single partition spanning the whole key space
+        long acknowledged = exportRange(ExportPartition.split(1).get(0), progress);
+
+        if (progress.isCancelled()) {
+            log.info("Export cancelled for job {} after {} acknowledged resources", progress.getJobId(), acknowledged);
+        } else {
+            log.info("Export completed. Acknowledged: {}", acknowledged);
+        }
+        return acknowledged;
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long exportPartitionToKafka(ExportPartition partition, String snapshotId, ExportProgress progress) {
+        // Importing the snapshot has to be the first statement of this transaction
+        jdbcTemplate.execute(ExportSnapshot.importStatement(snapshotId));
+
+        long acknowledged = exportRange(partition, progress);
+
+        log.info("Partition {} of job {} exported {} acknowledged resources",
+                partition.getIndex(), progress.getJobId(), acknowledged);
+        return acknowledged;
+    }
+
+    // Both phases read one snapshot, so a resource updated and then deleted during the export
+    // shows up as a tombstone only, never as a stale upsert after it
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long exportDeltaToKafka(DeltaExportFilter filter, ExportProgress progress) {
+        log.info("Starting delta export for job {}: ({}, {}], country: {}, type: {}",
+                progress.getJobId(), filter.since(), filter.until(), filter.countryCode(), filter.type());
+
+        long changed = this.<ResourceResponse>exportFromCheckpoint(DELTA_CHANGES_PARTITION, progress,
+                (after, handler) -> exportReader.readChanged(filter, after, EXPORT_CHUNK_SIZE, progress, handler),
+                responses -> eventProducer.sendBulkExport(responses, progress));
+        long deleted = progress.isCancelled() ? 0 : this.<UUID>exportFromCheckpoint(DELTA_DELETIONS_PARTITION, progress,
+                (after, handler) -> exportReader.readDeletions(filter, after, EXPORT_CHUNK_SIZE, progress, handler),
+                resourceIds -> eventProducer.sendTombstones(resourceIds, progress));
+
+        log.info("Delta export for job {} acknowledged {} changed resources and {} tombstones",
+                progress.getJobId(), changed, deleted);
+        return changed + deleted;
     }
 
     @Override
     @Transactional(readOnly = true)
     public long getTotalResourceCount() {
-        return resourceRepository.count();
+        return resourceStatistics.totalResources();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceStatsResponse getStats() {
+        return resourceStatistics.read();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countDelta(DeltaExportFilter filter) {
+        return resourceRepository.countDelta(filter.since(), filter.until(), filter.countryCode(), filter.type())
+                + resourceDeletionRepository.countDelta(filter.since(), filter.until(), filter.countryCode(),
+                filter.type());
+    }
+
+    private long exportRange(ExportPartition partition, ExportProgress progress) {
+        return this.<ResourceResponse>exportFromCheckpoint(partition.getIndex(), progress,
+                (after, handler) -> exportReader.read(partition, after != null ? after.resourceId() : null,
+                        EXPORT_CHUNK_SIZE, progress, handler),
+                responses -> eventProducer.sendBulkExport(responses, progress));
+    }
+
+    // Continues after the checkpoint of the given partition index when the job is being resumed.
+    // Returns only once every sent record is acknowledged, with the exact acknowledged count.
+    private <T> long exportFromCheckpoint(int partitionIndex, ExportProgress progress, CheckpointedRead<T> read,
+                                          Function<List<T>, CompletableFuture<Long>> send) {
+        UUID jobId = progress.getJobId();
+        Optional<ExportCheckpoint> checkpoint =
+                exportCheckpointRepository.findByJobIdAndPartitionIndex(jobId, partitionIndex);
+        checkpoint.ifPresent(c -> log.info("Resuming partition {} of job {} after resource {}",
+                partitionIndex, jobId, c.getLastResourceId()));
+
+        ExportCheckpointTracker tracker = new ExportCheckpointTracker(
+                checkpoint.map(ExportCheckpoint::getRowsExported).orElse(0L),
+                checkpoint.map(ExportCheckpoint::getBytesSent).orElse(0L),
+                (cursor, rows, bytes) -> exportCheckpointRepository.upsert(
+                        jobId, partitionIndex, cursor.resourceId(), cursor.timestamp(), rows, bytes));
+
+        long totalRead = read.read(
+                checkpoint.map(c -> new ExportCursor(c.getLastResourceId(), c.getLastUpdatedAt())).orElse(null),
+                (items, cursor) -> {
+                    tracker.chunkSent(send.apply(items), cursor, items.size());
+                    log.debug("Sent chunk of {} records up to {}", items.size(), cursor.resourceId());
+                });
+
+        tracker.awaitAll();
+        log.debug("Partition {} of job {}: read {}, acknowledged {}",
+                partitionIndex, jobId, totalRead, tracker.getRowsAcknowledged());
+        return tracker.getRowsAcknowledged();
+    }
+
+    @FunctionalInterface
+    private interface CheckpointedRead<T> {
+        long read(ExportCursor after, ResourceExportReader.ChunkHandler<T> handler);
+    }
+
+    private static boolean hasCriteria(CharacteristicFilterRequest characteristics) {
+        return characteristics != null && characteristics.hasCriteria();
+    }
+
+    private Resource newResource(CreateResourceRequest request) {
+        Resource resource = resourceMapper.toEntity(request);
+        resource.setLocation(resourceMapper.toLocation(request.getLocation()));
+
+        if (request.getCharacteristics() != null && !request.getCharacteristics().isEmpty()) {
+            validateCharacteristics(request.getCharacteristics());
+
+            request.getCharacteristics().forEach(charDTO -> {
+                Characteristic characteristic = resourceMapper.toCharacteristic(charDTO);
+                resource.addCharacteristic(characteristic);
+            });
+        }
+        return resource;
+    }
+
+    // Validates before changing anything, so a rejected update leaves the resource as it was
+    private void applyUpdate(Resource resource, UpdateResourceRequest request) {
+        if (request.getCharacteristics() != null) {
+            validateCharacteristics(request.getCharacteristics());
+        }
+
+        if (request.getLocation() != null) {
+            resource.setLocation(resourceMapper.toLocation(request.getLocation()));
+        }
+
+        if (request.getCharacteristics() != null && mergeCharacteristics(resource, request.getCharacteristics())) {
+            // Characteristics are owned by their own table, so changing them alone would leave the
+            // resource row untouched; dirtying it bumps the version (and ETag) and updated_at
+            resource.setUpdatedAt(LocalDateTime.now());
+        }
+    }
+
+    // Diffs the requested characteristics against the current ones by (code, type). A kept characteristic
+    // keeps its row and id and is only updated when its value changed, so only real additions and removals
+    // insert or delete rows. Returns whether anything changed.
+    private boolean mergeCharacteristics(Resource resource, List<CharacteristicDTO> requested) {
+        Map<String, CharacteristicDTO> wanted = new LinkedHashMap<>();
+        requested.forEach(charDTO -> wanted.put(characteristicKey(charDTO.getCode(), charDTO.getType()), charDTO));
+
+        boolean changed = false;
+        Iterator<Characteristic> current = resource.getCharacteristics().iterator();
+        while (current.hasNext()) {
+            Characteristic characteristic = current.next();
+            CharacteristicDTO charDTO = wanted.remove(characteristicKey(characteristic.getCode(), characteristic.getType()));
+            if (charDTO == null) {
+                current.remove();
+                changed = true;
+            } else if (!Objects.equals(characteristic.getValue(), charDTO.getValue())) {
+                characteristic.setValue(charDTO.getValue());
+                changed = true;
+            }
+        }
 
+        for (CharacteristicDTO charDTO : wanted.values()) {
+            resource.addCharacteristic(resourceMapper.toCharacteristic(charDTO));
+            changed = true;
+        }
+        return changed;
+    }
 
-    private void validateCharacteristics(List<com.energia.resourcemanagement.dto.common.CharacteristicDTO> characteristics) {
+    private void validateCharacteristics(List<CharacteristicDTO> characteristics) {
         Set<String> seen = new HashSet<>();
-        for (com.energia.resourcemanagement.dto.common.CharacteristicDTO char1 : characteristics) {
-            String key = char1.getCode() + "_" + char1.getType();
-            if (!seen.add(key)) {
+        for (CharacteristicDTO char1 : characteristics) {
+            if (!seen.add(characteristicKey(char1.getCode(), char1.getType()))) {
                 throw new DuplicateCharacteristicException(char1.getCode(), char1.getType().toString());
             }
         }
     }
 
+    private static String characteristicKey(String code, CharacteristicType type) {
+        return code + "_" + type;
+    }
+
+    // Written to the outbox in the caller's transaction; OutboxRelay publishes it after commit
     private void publishResourceEvent(EventType eventType, UUID resourceId, ResourceResponse resource) {
-        try {
-            ResourceEvent event = ResourceEvent.builder()
-                    .eventId(UUID.randomUUID())
-                    .eventType(eventType)
-                    .resourceId(resourceId)
-                    .resource(resource)
-                    .timestamp(Instant.now())
-                    .build();
+        eventOutbox.append(resourceEvent(eventType, resourceId, resource));
+    }
 
-            eventProducer.sendResourceEvent(event);
-        } catch (Exception e) {
-            log.error("Failed to publish event for resource {}: {}", resourceId, e.getMessage());
-        }
+    private static ResourceEvent resourceEvent(EventType eventType, UUID resourceId, ResourceResponse resource) {
+        return ResourceEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(eventType)
+                .resourceId(resourceId)
+                .resource(resource)
+                .timestamp(Instant.now())
+                .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.energia.resourcemanagement.service.projection;
+
+import com.energia.resourcemanagement.dto.response.ResourceResponse;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+// The properties a client asked for with fields=. id and version always come along: one identifies
+// the resource, the other backs ETags and If-Match.
+public record FieldSelection(Set<ResourceField> fields) {
+
+    // Null when every field is wanted, so callers keep using the full entity path
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+
+        EnumSet<ResourceField> selected = EnumSet.of(ResourceField.ID, ResourceField.VERSION);
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(property -> !property.isEmpty())
+                .map(ResourceField::fromProperty)
+                .forEach(selected::add);
+
+        return selected.size() == ResourceField.values().length ? null : new FieldSelection(selected);
+    }
+
+    public boolean includes(ResourceField field) {
+        return fields.contains(field);
+    }
+
+    public FieldSelection with(ResourceField field) {
+        EnumSet<ResourceField> extended = EnumSet.copyOf(fields);
+        extended.add(field);
+        return new FieldSelection(extended);
+    }
+
+    // The selected fields that are plain columns, in the order a projection selects them
+    public List<ResourceField> columns() {
+        return fields.stream()
+                .filter(field -> field.path() != null)
+                .sorted()
+                .toList();
+    }
+
+    // Cuts a full response, e.g. a cache hit, down to the selection; the full response is left as it is
+    public ResourceResponse apply(ResourceResponse response) {
+        return ResourceResponse.builder()
+                .id(response.getId())
+                .type(includes(ResourceField.TYPE) ? response.getType() : null)
+                .countryCode(includes(ResourceField.COUNTRY_CODE) ? response.getCountryCode() : null)
+                .location(includes(ResourceField.LOCATION) ? response.getLocation() : null)
+                .characteristics(includes(ResourceField.CHARACTERISTICS) ? response.getCharacteristics() : null)
+                .createdAt(includes(ResourceField.CREATED_AT) ? response.getCreatedAt() : null)
+                .updatedAt(includes(ResourceField.UPDATED_AT) ? response.getUpdatedAt() : null)
+                .version(response.getVersion())
+                .build();
+    }
+}
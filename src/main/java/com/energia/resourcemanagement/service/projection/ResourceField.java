@@ -0,0 +1,41 @@
+package com.energia.resourcemanagement.service.projection;
+
+import com.energia.resourcemanagement.exception.InvalidFieldsException;
+
+import java.util.Arrays;
+
+// Top-level ResourceResponse properties a client can select with fields=, with the JPQL path each is read from.
+// Characteristics have no path: they come from one IN query over the selected rows.
+public enum ResourceField {
+    ID("id", "r.id"),
+    TYPE("type", "r.type"),
+    COUNTRY_CODE("countryCode", "r.countryCode"),
+    LOCATION("location", "r.location"),
+    CHARACTERISTICS("characteristics", null),
+    CREATED_AT("createdAt", "r.createdAt"),
+    UPDATED_AT("updatedAt", "r.updatedAt"),
+    VERSION("version", "r.version");
+
+    private final String property;
+    private final String path;
+
+    ResourceField(String property, String path) {
+        this.property = property;
+        this.path = path;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public static ResourceField fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new InvalidFieldsException(property));
+    }
+}
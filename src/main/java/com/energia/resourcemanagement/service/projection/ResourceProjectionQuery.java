@@ -0,0 +1,142 @@
+package com.energia.resourcemanagement.service.projection;
+
+import com.energia.resourcemanagement.domain.entity.Location;
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+import com.energia.resourcemanagement.dto.request.CharacteristicFilterRequest;
+import com.energia.resourcemanagement.dto.response.ResourceResponse;
+import com.energia.resourcemanagement.exception.InvalidFieldsException;
+import com.energia.resourcemanagement.mapper.ResourceMapper;
+import com.energia.resourcemanagement.mapper.ResourceResponseAssembler;
+import com.energia.resourcemanagement.service.pagination.ResourceCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.energia.resourcemanagement.repository.ResourceRepository.CHARACTERISTIC_FILTER;
+import static com.energia.resourcemanagement.repository.ResourceRepository.LIST_FILTER;
+
+// Reads only the columns of a FieldSelection, with the same filters as the entity queries of
+// ResourceRepository. Characteristics are only queried when they are selected.
+@Component
+@RequiredArgsConstructor
+public class ResourceProjectionQuery {
+
+    private static final String KEYSET_FILTER =
+            "AND r.createdAt <= :cursorAt AND (r.createdAt < :cursorAt OR r.id < :cursorId) ";
+    private static final String KEYSET_ORDER = "ORDER BY r.createdAt DESC, r.id DESC";
+
+    private final EntityManager entityManager;
+    private final ResourceMapper resourceMapper;
+    private final ResourceResponseAssembler responseAssembler;
+
+    @Transactional(readOnly = true)
+    public Optional<ResourceResponse> findById(UUID id, FieldSelection fields) {
+        List<Object[]> rows = entityManager.createQuery(select(fields) + "WHERE r.id = :id", Object[].class)
+                .setParameter("id", id)
+                .getResultList();
+        return toResponses(rows, fields).stream().findFirst();
+    }
+
+    public List<ResourceResponse> findPage(String countryCode, ResourceType type,
+                                           CharacteristicFilterRequest characteristics, FieldSelection fields,
+                                           long offset, int limit, Sort sort) {
+        TypedQuery<Object[]> query = listQuery(countryCode, type, characteristics, fields, "", orderBy(sort));
+        query.setFirstResult(Math.toIntExact(offset));
+        query.setMaxResults(limit);
+        return toResponses(query.getResultList(), fields);
+    }
+
+    // Keyset pages in (createdAt DESC, id DESC) order; a null cursor starts at the newest resource
+    public List<ResourceResponse> findPageAfter(String countryCode, ResourceType type,
+                                                CharacteristicFilterRequest characteristics, FieldSelection fields,
+                                                ResourceCursor cursor, int limit) {
+        TypedQuery<Object[]> query = listQuery(countryCode, type, characteristics, fields,
+                cursor != null ? KEYSET_FILTER : "", KEYSET_ORDER);
+        if (cursor != null) {
+            query.setParameter("cursorAt", cursor.createdAt());
+            query.setParameter("cursorId", cursor.id());
+        }
+        query.setMaxResults(limit);
+        return toResponses(query.getResultList(), fields);
+    }
+
+    private TypedQuery<Object[]> listQuery(String countryCode, ResourceType type,
+                                           CharacteristicFilterRequest characteristics, FieldSelection fields,
+                                           String keysetFilter, String orderBy) {
+        boolean byCharacteristic = characteristics != null && characteristics.hasCriteria();
+        String jpql = select(fields) + "WHERE " + LIST_FILTER
+                + (byCharacteristic ? CHARACTERISTIC_FILTER : "") + keysetFilter + orderBy;
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql, Object[].class)
+                .setParameter("countryCode", countryCode)
+                .setParameter("type", type);
+        if (byCharacteristic) {
+            query.setParameter("characteristicType", characteristics.getCharacteristicType());
+            query.setParameter("characteristicCode", characteristics.getCharacteristicCode());
+            query.setParameter("characteristicValue", characteristics.getCharacteristicValue());
+        }
+        return query;
+    }
+
+    private static String select(FieldSelection fields) {
+        return fields.columns().stream()
+                .map(ResourceField::path)
+                .collect(Collectors.joining(", ", "SELECT ", " FROM Resource r "));
+    }
+
+    // Sort properties come from the client, so only plain columns are let into the query
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        return sort.stream()
+                .map(order -> {
+                    ResourceField field = ResourceField.fromProperty(order.getProperty());
+                    if (field.path() == null || field == ResourceField.LOCATION) {
+                        throw new InvalidFieldsException(order.getProperty());
+                    }
+                    return field.path() + (order.isAscending() ? " ASC" : " DESC");
+                })
+                .collect(Collectors.joining(", ", "ORDER BY ", ""));
+    }
+
+    private List<ResourceResponse> toResponses(List<Object[]> rows, FieldSelection fields) {
+        List<ResourceField> columns = fields.columns();
+        List<ResourceResponse> responses = rows.stream()
+                .map(row -> {
+                    ResourceResponse response = new ResourceResponse();
+                    for (int i = 0; i < columns.size(); i++) {
+                        set(response, columns.get(i), row[i]);
+                    }
+                    return response;
+                })
+                .toList();
+
+        if (fields.includes(ResourceField.CHARACTERISTICS)) {
+            responseAssembler.attachCharacteristics(responses);
+        }
+        return responses;
+    }
+
+    private void set(ResourceResponse response, ResourceField field, Object value) {
+        switch (field) {
+            case ID -> response.setId((UUID) value);
+            case TYPE -> response.setType((ResourceType) value);
+            case COUNTRY_CODE -> response.setCountryCode((String) value);
+            case LOCATION -> response.setLocation(resourceMapper.toLocationDTO((Location) value));
+            case CREATED_AT -> response.setCreatedAt((LocalDateTime) value);
+            case UPDATED_AT -> response.setUpdatedAt((LocalDateTime) value);
+            case VERSION -> response.setVersion((Long) value);
+            case CHARACTERISTICS -> { }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.energia.resourcemanagement.service.stats;
+
+import com.energia.resourcemanagement.dto.response.ResourceStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Reads the trigger-maintained counts of resource_stats (see V11). The table holds a handful of rows
+// per group, so these reads cost the same whatever the size of the catalog.
+@Component
+@RequiredArgsConstructor
+public class ResourceStatistics {
+
+    private static final String TOTAL = "TOTAL";
+    private static final String COUNTRY = "COUNTRY";
+    private static final String TYPE = "TYPE";
+    private static final String CHARACTERISTIC_TYPE = "CHARACTERISTIC_TYPE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ResourceStatsResponse read() {
+        Map<String, Map<String, Long>> dimensions = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT dimension, bucket, SUM(total) AS total FROM resource_stats " +
+                        "GROUP BY dimension, bucket HAVING SUM(total) <> 0",
+                rs -> {
+                    dimensions.computeIfAbsent(rs.getString("dimension"), dimension -> new TreeMap<>())
+                            .put(rs.getString("bucket"), rs.getLong("total"));
+                });
+
+        return ResourceStatsResponse.builder()
+                .totalResources(dimensions.getOrDefault(TOTAL, Map.of()).getOrDefault("ALL", 0L))
+                .byCountry(dimensions.getOrDefault(COUNTRY, Map.of()))
+                .byType(dimensions.getOrDefault(TYPE, Map.of()))
+                .byCharacteristicType(dimensions.getOrDefault(CHARACTERISTIC_TYPE, Map.of()))
+                .build();
+    }
+
+    public long totalResources() {
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(total), 0) FROM resource_stats WHERE dimension = 'TOTAL'", Long.class);
+        return total != null ? total : 0;
+    }
+}
@@ -0,0 +1,94 @@
+package com.energia.resourcemanagement.service.stats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// Recounts the base tables now and then and books any difference to the stored counts as a
+// correction. Both sides are read from one snapshot, so writes running meanwhile are not mistaken
+// for drift, and corrections are added rather than overwritten, so they commute with those writes.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResourceStatsReconciler {
+
+    // Only one instance reconciles at a time; the others skip the round
+    private static final long LOCK_KEY = 0x5245_5354_4154_5301L;
+    private static final int CORRECTION_SLOT = -1;
+
+    private static final String DRIFT_QUERY = """
+            WITH actual AS (
+                SELECT 'TOTAL' AS dimension, 'ALL' AS bucket, COUNT(*) AS total FROM resources
+                UNION ALL
+                SELECT 'COUNTRY', country_code, COUNT(*) FROM resources GROUP BY country_code
+                UNION ALL
+                SELECT 'TYPE', type, COUNT(*) FROM resources GROUP BY type
+                UNION ALL
+                SELECT 'CHARACTERISTIC_TYPE', type, COUNT(*) FROM characteristics GROUP BY type
+            ), stored AS (
+                SELECT dimension, bucket, SUM(total) AS total FROM resource_stats GROUP BY dimension, bucket
+            )
+            SELECT COALESCE(a.dimension, s.dimension) AS dimension,
+                   COALESCE(a.bucket, s.bucket) AS bucket,
+                   COALESCE(a.total, 0) - COALESCE(s.total, 0) AS drift
+            FROM actual a
+            FULL JOIN stored s ON s.dimension = a.dimension AND s.bucket = a.bucket
+            WHERE COALESCE(a.total, 0) <> COALESCE(s.total, 0)
+            """;
+
+    private record Drift(String dimension, String bucket, long drift) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private Counter correctionCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        correctionCounter = Counter.builder("resource.stats.corrections")
+                .description("Resource stats counts found out of line with the base tables and corrected")
+                .register(meterRegistry);
+    }
+
+    // The lock call is the transaction's first statement, so the snapshot is taken after any
+    // reconciliation that committed before it
+    @Scheduled(fixedDelayString = "${resource.stats.reconcile-interval-ms:3600000}",
+            initialDelayString = "${resource.stats.reconcile-initial-delay-ms:300000}")
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void reconcile() {
+        Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        List<Drift> drifts = jdbcTemplate.query(DRIFT_QUERY, (rs, rowNum) ->
+                new Drift(rs.getString("dimension"), rs.getString("bucket"), rs.getLong("drift")));
+        if (drifts.isEmpty()) {
+            return;
+        }
+
+        for (Drift drift : drifts) {
+            log.warn("Resource stats {} {} drifted by {}, correcting", drift.dimension(), drift.bucket(), drift.drift());
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO resource_stats (dimension, bucket, slot, total) VALUES (?, ?, ?, ?) " +
+                        "ON CONFLICT (dimension, bucket, slot) DO UPDATE SET total = resource_stats.total + EXCLUDED.total",
+                drifts, drifts.size(), (ps, drift) -> {
+                    ps.setString(1, drift.dimension());
+                    ps.setString(2, drift.bucket());
+                    ps.setInt(3, CORRECTION_SLOT);
+                    ps.setLong(4, drift.drift());
+                });
+        correctionCounter.increment(drifts.size());
+    }
+}
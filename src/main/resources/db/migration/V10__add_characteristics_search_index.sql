@@ -0,0 +1,6 @@
+-- Serves the characteristic filter of the resource listings, an EXISTS semi-join on (type, code, value).
+-- resource_id completes the key, so the matching resource ids come from the index alone.
+CREATE INDEX idx_characteristics_type_code_value ON characteristics(type, code, value, resource_id);
+
+-- A prefix of the new index
+DROP INDEX idx_characteristics_type;
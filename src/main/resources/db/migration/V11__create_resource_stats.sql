@@ -0,0 +1,117 @@
+-- Summary counts behind GET /api/v1/resources/stats, kept current by statement-level triggers that
+-- aggregate each statement's transition tables, so a bulk write touches one row per group rather than
+-- one per changed row. Striped over 16 slots like resource_change_counters; a count is the sum of its
+-- slots. Slot -1 holds the corrections of the periodic reconciliation, which no trigger touches.
+-- The count_*_change triggers of V8 fire first and lock the backend's slot in resource_change_counters,
+-- so two transactions sharing a slot queue there instead of locking these rows in opposite orders.
+CREATE TABLE resource_stats (
+    dimension VARCHAR(30) NOT NULL,
+    bucket VARCHAR(50) NOT NULL,
+    slot SMALLINT NOT NULL,
+    total BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (dimension, bucket, slot)
+);
+
+INSERT INTO resource_stats (dimension, bucket, slot, total)
+SELECT 'TOTAL', 'ALL', 0, COUNT(*) FROM resources
+UNION ALL
+SELECT 'COUNTRY', country_code, 0, COUNT(*) FROM resources GROUP BY country_code
+UNION ALL
+SELECT 'TYPE', type, 0, COUNT(*) FROM resources GROUP BY type
+UNION ALL
+SELECT 'CHARACTERISTIC_TYPE', type, 0, COUNT(*) FROM characteristics GROUP BY type;
+
+-- Adds delta once per given row to its TOTAL, COUNTRY and TYPE counts
+CREATE OR REPLACE FUNCTION add_resource_stats(changed resources[], delta INT)
+RETURNS VOID AS $$
+    INSERT INTO resource_stats (dimension, bucket, slot, total)
+    SELECT s.dimension, s.bucket, pg_backend_pid() % 16, COUNT(*) * delta
+    FROM unnest(changed) AS r
+    CROSS JOIN LATERAL (VALUES ('TOTAL', 'ALL'), ('COUNTRY', r.country_code), ('TYPE', r.type)) AS s(dimension, bucket)
+    GROUP BY s.dimension, s.bucket
+    ORDER BY s.dimension, s.bucket
+    ON CONFLICT (dimension, bucket, slot) DO UPDATE SET total = resource_stats.total + EXCLUDED.total;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION add_characteristic_stats(changed characteristics[], delta INT)
+RETURNS VOID AS $$
+    INSERT INTO resource_stats (dimension, bucket, slot, total)
+    SELECT 'CHARACTERISTIC_TYPE', c.type, pg_backend_pid() % 16, COUNT(*) * delta
+    FROM unnest(changed) AS c
+    GROUP BY c.type
+    ORDER BY c.type
+    ON CONFLICT (dimension, bucket, slot) DO UPDATE SET total = resource_stats.total + EXCLUDED.total;
+$$ LANGUAGE sql;
+
+-- Transition tables have to be declared per event, so every event gets its own trigger.
+-- Transition table rows are anonymous records until cast to their table's row type.
+-- An update only moves counts for the rows whose counted columns changed.
+CREATE OR REPLACE FUNCTION count_resource_stats()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM add_resource_stats(ARRAY(SELECT ROW(n.*)::resources FROM new_rows n), 1);
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM add_resource_stats(ARRAY(SELECT ROW(o.*)::resources FROM old_rows o), -1);
+    ELSE
+        PERFORM add_resource_stats(ARRAY(SELECT ROW(o.*)::resources FROM old_rows o JOIN new_rows n ON n.id = o.id
+                                         WHERE (o.country_code, o.type) IS DISTINCT FROM (n.country_code, n.type)), -1);
+        PERFORM add_resource_stats(ARRAY(SELECT ROW(n.*)::resources FROM old_rows o JOIN new_rows n ON n.id = o.id
+                                         WHERE (o.country_code, o.type) IS DISTINCT FROM (n.country_code, n.type)), 1);
+    END IF;
+    RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+CREATE OR REPLACE FUNCTION count_characteristic_stats()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM add_characteristic_stats(ARRAY(SELECT ROW(n.*)::characteristics FROM new_rows n), 1);
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM add_characteristic_stats(ARRAY(SELECT ROW(o.*)::characteristics FROM old_rows o), -1);
+    ELSE
+        PERFORM add_characteristic_stats(ARRAY(SELECT ROW(o.*)::characteristics FROM old_rows o JOIN new_rows n ON n.id = o.id
+                                               WHERE o.type <> n.type), -1);
+        PERFORM add_characteristic_stats(ARRAY(SELECT ROW(n.*)::characteristics FROM old_rows o JOIN new_rows n ON n.id = o.id
+                                               WHERE o.type <> n.type), 1);
+    END IF;
+    RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER count_resources_stats_insert
+    AFTER INSERT ON resources
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION count_resource_stats();
+
+CREATE TRIGGER count_resources_stats_update
+    AFTER UPDATE ON resources
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION count_resource_stats();
+
+CREATE TRIGGER count_resources_stats_delete
+    AFTER DELETE ON resources
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION count_resource_stats();
+
+CREATE TRIGGER count_characteristics_stats_insert
+    AFTER INSERT ON characteristics
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION count_characteristic_stats();
+
+CREATE TRIGGER count_characteristics_stats_update
+    AFTER UPDATE ON characteristics
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION count_characteristic_stats();
+
+CREATE TRIGGER count_characteristics_stats_delete
+    AFTER DELETE ON characteristics
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION count_characteristic_stats();
@@ -0,0 +1,6 @@
+-- Outbox rows are spread over 16 buckets by resource id. A relay instance claims a whole bucket with a
+-- transaction-level advisory lock, so all events of one resource are relayed by one instance at a time.
+ALTER TABLE resource_event_outbox
+    ADD COLUMN bucket SMALLINT GENERATED ALWAYS AS ((hashtext(resource_id::text) & 15)::smallint) STORED;
+
+CREATE INDEX idx_resource_event_outbox_bucket_id ON resource_event_outbox(bucket, id);
@@ -0,0 +1,9 @@
+-- Keyset indexes for the country, type and country + type listings. The equality columns lead, so each
+-- filtered page is a range scan in (created_at, id) order instead of a filter over the unfiltered index.
+CREATE INDEX idx_resources_country_created_at_id ON resources(country_code, created_at, id);
+CREATE INDEX idx_resources_type_created_at_id ON resources(type, created_at, id);
+CREATE INDEX idx_resources_country_type_created_at_id ON resources(country_code, type, created_at, id);
+
+-- Prefixes of the new indexes
+DROP INDEX idx_resources_country_code;
+DROP INDEX idx_resources_type;
@@ -0,0 +1,22 @@
+-- Number of parallel workers used by an export job (1 = serial scan)
+ALTER TABLE export_jobs ADD COLUMN worker_count INT NOT NULL DEFAULT 1;
+
+-- Create export job partitions table (one row per parallel export worker)
+CREATE TABLE export_job_partitions (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    job_id UUID NOT NULL,
+    partition_index INT NOT NULL,
+    lower_bound UUID NOT NULL,
+    upper_bound UUID NOT NULL,
+    rows_exported BIGINT NOT NULL DEFAULT 0,
+    bytes_sent BIGINT NOT NULL DEFAULT 0,
+    failed_records BIGINT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    CONSTRAINT fk_export_job
+        FOREIGN KEY (job_id)
+        REFERENCES export_jobs(id)
+        ON DELETE CASCADE,
+    CONSTRAINT uk_export_job_partition
+        UNIQUE (job_id, partition_index)
+);
@@ -0,0 +1,17 @@
+-- Last time a running export job reported progress; used to detect jobs orphaned by a restart
+ALTER TABLE export_jobs ADD COLUMN heartbeat_at TIMESTAMP;
+
+-- Create export checkpoints table (keyset cursor per export job partition)
+CREATE TABLE export_checkpoints (
+    job_id UUID NOT NULL,
+    partition_index INT NOT NULL,
+    last_resource_id UUID NOT NULL,
+    rows_exported BIGINT NOT NULL DEFAULT 0,
+    bytes_sent BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (job_id, partition_index),
+    CONSTRAINT fk_export_checkpoint_job
+        FOREIGN KEY (job_id)
+        REFERENCES export_jobs(id)
+        ON DELETE CASCADE
+);
@@ -0,0 +1,46 @@
+-- Delta exports scan changed resources in (updated_at, id) order
+CREATE INDEX idx_resources_updated_at_id ON resources(updated_at, id);
+
+-- Deleted resources, kept so that delta exports can emit tombstones for them
+CREATE TABLE resource_deletions (
+    resource_id UUID PRIMARY KEY,
+    type VARCHAR(50) NOT NULL,
+    country_code VARCHAR(2) NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_resource_deletions_deleted_at ON resource_deletions(deleted_at, resource_id);
+
+CREATE OR REPLACE FUNCTION record_resource_deletion()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO resource_deletions (resource_id, type, country_code, deleted_at)
+    VALUES (OLD.id, OLD.type, OLD.country_code, CURRENT_TIMESTAMP)
+    ON CONFLICT (resource_id) DO UPDATE SET deleted_at = EXCLUDED.deleted_at;
+    RETURN OLD;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER record_resources_deletion
+    AFTER DELETE ON resources
+    FOR EACH ROW
+    EXECUTE FUNCTION record_resource_deletion();
+
+-- Named delta watermarks of downstream consumers
+CREATE TABLE export_watermarks (
+    name VARCHAR(100) PRIMARY KEY,
+    watermark TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Delta parameters of an export job, kept so the job can be resumed
+ALTER TABLE export_jobs
+    ADD COLUMN mode VARCHAR(10) NOT NULL DEFAULT 'FULL',
+    ADD COLUMN updated_since TIMESTAMP,
+    ADD COLUMN updated_until TIMESTAMP,
+    ADD COLUMN country_code VARCHAR(2),
+    ADD COLUMN resource_type VARCHAR(50),
+    ADD COLUMN watermark_name VARCHAR(100);
+
+-- Delta checkpoints are (updated_at, id) keyset cursors
+ALTER TABLE export_checkpoints ADD COLUMN last_updated_at TIMESTAMP;
@@ -0,0 +1,10 @@
+-- Resource events written in the same transaction as the change they describe,
+-- relayed to Kafka and deleted once the broker acknowledged them
+CREATE TABLE resource_event_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    event_id UUID NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    resource_id UUID NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
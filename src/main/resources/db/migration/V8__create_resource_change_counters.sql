@@ -0,0 +1,27 @@
+-- Change counter behind the collection ETag of GET /api/v1/resources. It is striped over 16 rows
+-- so that concurrent write transactions rarely wait on the same row lock: each writing statement
+-- bumps the slot of its backend. Being transactional, a change is counted exactly when it commits.
+CREATE TABLE resource_change_counters (
+    slot SMALLINT PRIMARY KEY,
+    changes BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO resource_change_counters (slot) SELECT generate_series(0, 15);
+
+CREATE OR REPLACE FUNCTION count_resource_change()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE resource_change_counters SET changes = changes + 1 WHERE slot = pg_backend_pid() % 16;
+    RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER count_resources_change
+    AFTER INSERT OR UPDATE OR DELETE ON resources
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION count_resource_change();
+
+CREATE TRIGGER count_characteristics_change
+    AFTER INSERT OR UPDATE OR DELETE ON characteristics
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION count_resource_change();
@@ -0,0 +1,4 @@
+-- Keyset index for cursor pagination over (created_at, id); id breaks ties between equal timestamps.
+-- It also serves the offset listing sorted by created_at, so the single-column index is dropped.
+CREATE INDEX idx_resources_created_at_id ON resources(created_at, id);
+DROP INDEX idx_resources_created_at;
@@ -9,6 +9,9 @@ import com.energia.resourcemanagement.dto.request.UpdateResourceRequest;
 import com.energia.resourcemanagement.integration.AbstractIntegrationTest;
 import com.energia.resourcemanagement.repository.ResourceRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,11 +19,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -37,6 +42,9 @@ class ResourceControllerIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private ResourceRepository resourceRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         resourceRepository.deleteAll();
@@ -155,6 +163,58 @@ class ResourceControllerIntegrationTest extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$.content[0].type").value("METERING_POINT"));
     }
 
+    @Test
+    void getAllResources_QueryCountIndependentOfPageSize() throws Exception {
+        for (int i = 0; i < 12; i++) {
+            CreateResourceRequest request = CreateResourceRequest.builder()
+                    .type(ResourceType.METERING_POINT)
+                    .countryCode("EE")
+                    .location(LocationDTO.builder()
+                            .streetAddress("Page Test " + i)
+                            .city("Tallinn")
+                            .postalCode("33333")
+                            .countryCode("EE")
+                            .build())
+                    .characteristics(List.of(
+                            CharacteristicDTO.builder()
+                                    .code("PT" + i)
+                                    .type(CharacteristicType.CONSUMPTION_TYPE)
+                                    .value("RESIDENTIAL")
+                                    .build()
+                    ))
+                    .build();
+
+            mockMvc.perform(post("/api/v1/resources")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+        // Lists must load the characteristics from the database, not from this test's persistence context
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        long smallPageQueries = countQueries(statistics, get("/api/v1/resources").param("size", "2"));
+        long largePageQueries = countQueries(statistics, get("/api/v1/resources").param("size", "12"));
+
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+        assertThat(countQueries(statistics, get("/api/v1/resources").param("slice", "true").param("size", "12")))
+                .isLessThan(smallPageQueries);
+    }
+
+    private long countQueries(Statistics statistics, MockHttpServletRequestBuilder request) throws Exception {
+        entityManager.clear();
+        statistics.clear();
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].characteristics[0].code").exists());
+
+        return statistics.getPrepareStatementCount();
+    }
+
     @Test
     void updateResource_Success() throws Exception {
         CreateResourceRequest createRequest = CreateResourceRequest.builder()
@@ -309,6 +369,33 @@ class ResourceControllerIntegrationTest extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$.jobId").isNotEmpty());
     }
 
+    @Test
+    void getExportJob_AfterExport() throws Exception {
+        MvcResult exportResult = mockMvc.perform(post("/api/v1/resources/export-all"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn();
+
+        String jobId = objectMapper.readTree(exportResult.getResponse().getContentAsString())
+                .get("jobId").asText();
+
+        mockMvc.perform(get("/api/v1/resources/export-jobs/{id}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(jobId))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+
+        mockMvc.perform(delete("/api/v1/resources/export-jobs/{id}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+    }
+
+    @Test
+    void getExportJob_NotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/resources/export-jobs/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("EXPORT_JOB_NOT_FOUND"));
+    }
+
     @Test
     void updateResource_OptimisticLocking() throws Exception {
         CreateResourceRequest createRequest = CreateResourceRequest.builder()
@@ -347,4 +434,53 @@ class ResourceControllerIntegrationTest extends AbstractIntegrationTest {
                 .andExpect(status().isConflict())
                 .andExpect(jsonPath("$.code").value("CONCURRENT_UPDATE"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void updateResource_IfMatchWithETagFromGet() throws Exception {
+        CreateResourceRequest createRequest = CreateResourceRequest.builder()
+                .type(ResourceType.METERING_POINT)
+                .countryCode("EE")
+                .location(LocationDTO.builder()
+                        .streetAddress("ETag Test")
+                        .city("Tallinn")
+                        .postalCode("55555")
+                        .countryCode("EE")
+                        .build())
+                .build();
+
+        MvcResult createResult = mockMvc.perform(post("/api/v1/resources")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        String resourceId = objectMapper.readTree(createResult.getResponse().getContentAsString())
+                .get("id").asText();
+        String etag = mockMvc.perform(get("/api/v1/resources/{id}", resourceId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        UpdateResourceRequest updateRequest = UpdateResourceRequest.builder()
+                .location(LocationDTO.builder()
+                        .streetAddress("ETag Update")
+                        .city("Tallinn")
+                        .postalCode("55555")
+                        .countryCode("EE")
+                        .build())
+                .build();
+
+        mockMvc.perform(put("/api/v1/resources/{id}", resourceId)
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk());
+
+        // The tag read before the update is stale now
+        mockMvc.perform(put("/api/v1/resources/{id}", resourceId)
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("CONCURRENT_UPDATE"));
+    }
+}
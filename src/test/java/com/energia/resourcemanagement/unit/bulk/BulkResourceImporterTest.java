@@ -0,0 +1,129 @@
+package com.energia.resourcemanagement.unit.bulk;
+
+import com.energia.resourcemanagement.domain.enums.BulkItemStatus;
+import com.energia.resourcemanagement.dto.response.BulkCreateSummary;
+import com.energia.resourcemanagement.dto.response.BulkItemResult;
+import com.energia.resourcemanagement.service.bulk.BulkResourceImporter;
+import com.energia.resourcemanagement.service.bulk.PendingResource;
+import com.energia.resourcemanagement.service.bulk.ResourceBatchWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BulkResourceImporterTest {
+
+    private static final String VALID = "{\"type\":\"METERING_POINT\",\"countryCode\":\"EE\"," +
+            "\"location\":{\"streetAddress\":\"Street 1\",\"city\":\"Tallinn\",\"postalCode\":\"10111\",\"countryCode\":\"EE\"}," +
+            "\"characteristics\":[{\"code\":\"C1\",\"type\":\"CHARGING_POINT\",\"value\":\"x\"}]}";
+
+    @Mock
+    private ResourceBatchWriter batchWriter;
+
+    private BulkResourceImporter importer;
+    private final List<BulkItemResult> results = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        importer = new BulkResourceImporter(new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), batchWriter);
+    }
+
+    @Test
+    void importResources_RejectsInvalidItemsAndInsertsTheRest() {
+        String body = "[" + VALID + ", {\"type\":\"BOGUS\"}, 42, {\"type\":\"METERING_POINT\",\"countryCode\":\"ee\"}, "
+                + VALID + "]";
+
+        BulkCreateSummary summary = importer.importResources(stream(body), results::add);
+
+        assertThat(summary.getReceived()).isEqualTo(5);
+        assertThat(summary.getCreated()).isEqualTo(2);
+        assertThat(summary.getRejected()).isEqualTo(3);
+        assertThat(summary.getError()).isNull();
+        assertThat(results).extracting(BulkItemResult::getIndex).containsExactlyInAnyOrder(0L, 1L, 2L, 3L, 4L);
+        assertThat(results).filteredOn(result -> result.getStatus() == BulkItemStatus.CREATED)
+                .allSatisfy(result -> assertThat(result.getId()).isNotNull());
+        assertThat(results.stream().filter(result -> result.getIndex() == 3).findFirst().orElseThrow().getErrors())
+                .anySatisfy(error -> assertThat(error).startsWith("countryCode"))
+                .anySatisfy(error -> assertThat(error).startsWith("location"));
+    }
+
+    @Test
+    void importResources_InsertsInChunks() {
+        List<Integer> chunkSizes = new ArrayList<>();
+        doAnswer(invocation -> chunkSizes.add(invocation.<List<PendingResource>>getArgument(0).size()))
+                .when(batchWriter).insert(anyList());
+        String body = IntStream.range(0, 2500).mapToObj(i -> VALID).collect(Collectors.joining(",", "[", "]"));
+
+        BulkCreateSummary summary = importer.importResources(stream(body), results::add);
+
+        assertThat(chunkSizes).containsExactly(1000, 1000, 500);
+        assertThat(summary.getCreated()).isEqualTo(2500);
+        assertThat(results).hasSize(2500);
+    }
+
+    @Test
+    void importResources_DuplicateCharacteristicsAreRejected() {
+        String body = "[{\"type\":\"METERING_POINT\",\"countryCode\":\"EE\"," +
+                "\"location\":{\"streetAddress\":\"S\",\"city\":\"C\",\"postalCode\":\"1\",\"countryCode\":\"EE\"}," +
+                "\"characteristics\":[{\"code\":\"C1\",\"type\":\"CHARGING_POINT\",\"value\":\"x\"}," +
+                "{\"code\":\"C1\",\"type\":\"CHARGING_POINT\",\"value\":\"y\"}]}]";
+
+        BulkCreateSummary summary = importer.importResources(stream(body), results::add);
+
+        assertThat(summary.getRejected()).isEqualTo(1);
+        assertThat(results.get(0).getErrors()).singleElement().asString().contains("duplicate characteristic");
+        verify(batchWriter, never()).insert(anyList());
+    }
+
+    @Test
+    void importResources_FailedChunkReportsEveryItem() {
+        doThrow(new DataIntegrityViolationException("constraint")).when(batchWriter).insert(anyList());
+
+        BulkCreateSummary summary = importer.importResources(stream("[" + VALID + "," + VALID + "]"), results::add);
+
+        assertThat(summary.getFailed()).isEqualTo(2);
+        assertThat(summary.getCreated()).isZero();
+        assertThat(results).extracting(BulkItemResult::getStatus).containsOnly(BulkItemStatus.FAILED);
+    }
+
+    @Test
+    void importResources_MalformedBodyKeepsItemsReadBeforeIt() {
+        BulkCreateSummary summary = importer.importResources(stream("[" + VALID + ", {\"type\":"), results::add);
+
+        assertThat(summary.getCreated()).isEqualTo(1);
+        assertThat(summary.getError()).isNotNull();
+    }
+
+    @Test
+    void importResources_BodyMustBeAnArray() {
+        BulkCreateSummary summary = importer.importResources(stream(VALID), results::add);
+
+        assertThat(summary.getReceived()).isZero();
+        assertThat(summary.getError()).contains("JSON array");
+        verify(batchWriter, never()).insert(anyList());
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
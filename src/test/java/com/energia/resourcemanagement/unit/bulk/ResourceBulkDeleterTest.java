@@ -0,0 +1,146 @@
+package com.energia.resourcemanagement.unit.bulk;
+
+import com.energia.resourcemanagement.domain.enums.EventType;
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+import com.energia.resourcemanagement.dto.request.DeleteResourcesRequest;
+import com.energia.resourcemanagement.dto.response.ResourceResponse;
+import com.energia.resourcemanagement.kafka.event.ResourceEvent;
+import com.energia.resourcemanagement.kafka.outbox.ResourceEventOutbox;
+import com.energia.resourcemanagement.service.bulk.ResourceBulkDeleter;
+import com.energia.resourcemanagement.service.cache.ResourceResponseCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceBulkDeleterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ResourceEventOutbox eventOutbox;
+
+    @Mock
+    private ResourceResponseCache resourceCache;
+
+    private ResourceBulkDeleter deleter;
+
+    @BeforeEach
+    void setUp() {
+        deleter = new ResourceBulkDeleter(jdbcTemplate, eventOutbox, resourceCache);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void delete_DeletesInKeyOrderedChunksAndAppendsEventsPerChunk() {
+        List<ResourceResponse> first = resources(0, 1000);
+        List<ResourceResponse> second = resources(1000, 1000);
+        List<ResourceResponse> last = resources(2000, 500);
+        when(jdbcTemplate.query(eq("DELETE FROM resources WHERE id IN (SELECT id FROM resources " +
+                        "WHERE country_code = ? AND type = ? ORDER BY id LIMIT ?) " +
+                        "RETURNING id, type, country_code, created_at, updated_at, version"),
+                any(RowMapper.class), eq("LV"), eq("METERING_POINT"), eq(1000)))
+                .thenReturn(first);
+        when(jdbcTemplate.query(eq("DELETE FROM resources WHERE id IN (SELECT id FROM resources " +
+                        "WHERE country_code = ? AND type = ? AND id > ? ORDER BY id LIMIT ?) " +
+                        "RETURNING id, type, country_code, created_at, updated_at, version"),
+                any(RowMapper.class), eq("LV"), eq("METERING_POINT"), any(UUID.class), eq(1000)))
+                .thenReturn(second, last);
+
+        int count = deleter.delete(DeleteResourcesRequest.builder()
+                .countryCode("LV")
+                .type(ResourceType.METERING_POINT)
+                .build());
+
+        assertThat(count).isEqualTo(2500);
+        ArgumentCaptor<List<ResourceEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(eventOutbox, times(3)).appendAll(events.capture());
+        assertThat(events.getAllValues()).extracting(List::size).containsExactly(1000, 1000, 500);
+        assertThat(events.getAllValues()).flatExtracting(chunk -> chunk)
+                .allSatisfy(event -> assertThat(event.getEventType()).isEqualTo(EventType.RESOURCE_DELETED))
+                .hasSize(2500);
+        ArgumentCaptor<Collection<UUID>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(resourceCache, times(3)).markAllDeletedAfterCommit(ids.capture());
+        assertThat(ids.getAllValues()).extracting(Collection::size).containsExactly(1000, 1000, 500);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void delete_NextChunkStartsAfterHighestIdInDatabaseOrder() {
+        // Negative as a signed long, but the highest uuid for PostgreSQL
+        UUID highest = UUID.fromString("ffffffff-0000-0000-0000-000000000000");
+        List<ResourceResponse> first = new ArrayList<>(resources(0, 999));
+        first.add(0, ResourceResponse.builder().id(highest).build());
+        when(jdbcTemplate.query(eq("DELETE FROM resources WHERE id IN (SELECT id FROM resources " +
+                        "WHERE updated_at < ? ORDER BY id LIMIT ?) " +
+                        "RETURNING id, type, country_code, created_at, updated_at, version"),
+                any(RowMapper.class), any(Timestamp.class), eq(1000)))
+                .thenReturn(first);
+        when(jdbcTemplate.query(eq("DELETE FROM resources WHERE id IN (SELECT id FROM resources " +
+                        "WHERE updated_at < ? AND id > ? ORDER BY id LIMIT ?) " +
+                        "RETURNING id, type, country_code, created_at, updated_at, version"),
+                any(RowMapper.class), any(Timestamp.class), eq(highest), eq(1000)))
+                .thenReturn(List.of());
+
+        int count = deleter.delete(DeleteResourcesRequest.builder()
+                .updatedBefore(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build());
+
+        assertThat(count).isEqualTo(1000);
+        verify(eventOutbox, times(1)).appendAll(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void delete_FiltersOnUpdatedBeforeAndSkipsOutboxWhenNothingMatched() {
+        LocalDateTime before = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(jdbcTemplate.query(eq("DELETE FROM resources WHERE id IN (SELECT id FROM resources " +
+                        "WHERE updated_at < ? ORDER BY id LIMIT ?) " +
+                        "RETURNING id, type, country_code, created_at, updated_at, version"),
+                any(RowMapper.class), eq(Timestamp.valueOf(before)), eq(1000)))
+                .thenReturn(List.of());
+
+        assertThat(deleter.delete(DeleteResourcesRequest.builder().updatedBefore(before).build())).isZero();
+
+        verify(eventOutbox, never()).appendAll(anyList());
+    }
+
+    @Test
+    void delete_RejectsEmptyFilter() {
+        assertThatThrownBy(() -> deleter.delete(new DeleteResourcesRequest()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(jdbcTemplate, eventOutbox, resourceCache);
+    }
+
+    private static List<ResourceResponse> resources(int from, int count) {
+        return IntStream.range(from, from + count)
+                .mapToObj(i -> ResourceResponse.builder().id(new UUID(0, i)).countryCode("LV").build())
+                .toList();
+    }
+}
@@ -0,0 +1,74 @@
+package com.energia.resourcemanagement.unit.cache;
+
+import com.energia.resourcemanagement.domain.enums.CharacteristicType;
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+import com.energia.resourcemanagement.dto.request.CharacteristicFilterRequest;
+import com.energia.resourcemanagement.repository.ResourceRepository;
+import com.energia.resourcemanagement.service.cache.ResourceCountEstimator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceCountEstimatorTest {
+
+    @Mock
+    private ResourceRepository resourceRepository;
+
+    private ResourceCountEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        estimator = new ResourceCountEstimator(resourceRepository);
+        ReflectionTestUtils.setField(estimator, "expireAfterWrite", Duration.ofMinutes(1));
+        ReflectionTestUtils.invokeMethod(estimator, "init");
+    }
+
+    @Test
+    void unfilteredTotalComesFromPlannerEstimate() {
+        when(resourceRepository.estimateTotalCount()).thenReturn(5_000_000L);
+
+        assertThat(estimator.estimate(null, null, null)).isEqualTo(5_000_000L);
+        verify(resourceRepository, never()).countFiltered(any(), any());
+    }
+
+    @Test
+    void unanalyzedTableFallsBackToCount() {
+        when(resourceRepository.estimateTotalCount()).thenReturn(-1L);
+        when(resourceRepository.countFiltered(null, null)).thenReturn(42L);
+
+        assertThat(estimator.estimate(null, null, null)).isEqualTo(42L);
+    }
+
+    @Test
+    void filteredTotalIsCountedOncePerFilter() {
+        when(resourceRepository.countFiltered("EE", ResourceType.METERING_POINT)).thenReturn(7L);
+
+        assertThat(estimator.estimate("EE", ResourceType.METERING_POINT, null)).isEqualTo(7L);
+        assertThat(estimator.estimate("EE", ResourceType.METERING_POINT, null)).isEqualTo(7L);
+
+        verify(resourceRepository, times(1)).countFiltered("EE", ResourceType.METERING_POINT);
+        verify(resourceRepository, never()).estimateTotalCount();
+    }
+
+    @Test
+    void characteristicFilterIsCountedWithTheSemiJoin() {
+        CharacteristicFilterRequest characteristics = CharacteristicFilterRequest.builder()
+                .characteristicType(CharacteristicType.CONNECTION_POINT_STATUS)
+                .characteristicValue("ACTIVE")
+                .build();
+        when(resourceRepository.countByCharacteristic(null, null,
+                CharacteristicType.CONNECTION_POINT_STATUS, null, "ACTIVE")).thenReturn(3L);
+
+        assertThat(estimator.estimate(null, null, characteristics)).isEqualTo(3L);
+        verify(resourceRepository, never()).estimateTotalCount();
+    }
+}
@@ -0,0 +1,111 @@
+package com.energia.resourcemanagement.unit.cache;
+
+import com.energia.resourcemanagement.dto.response.ResourceResponse;
+import com.energia.resourcemanagement.exception.ResourceNotFoundException;
+import com.energia.resourcemanagement.service.cache.ResourceResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResourceResponseCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UUID id = UUID.randomUUID();
+
+    private ResourceResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ResourceResponseCache(meterRegistry);
+        ReflectionTestUtils.setField(cache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(cache, "expireAfterWrite", Duration.ofMinutes(10));
+        ReflectionTestUtils.invokeMethod(cache, "init");
+    }
+
+    @Test
+    void put_OlderVersion_DoesNotReplaceNewer() {
+        cache.putAfterCommit(response(2L));
+        cache.put(response(1L));
+
+        assertThat(cache.get(id)).hasValueSatisfying(cached -> assertThat(cached.getVersion()).isEqualTo(2L));
+    }
+
+    @Test
+    void markDeleted_RejectsStaleReinsert() {
+        cache.put(response(1L));
+        cache.markDeletedAfterCommit(id);
+        cache.put(response(1L));
+
+        assertThatThrownBy(() -> cache.get(id)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void invalidate_DropsEntryAndRejectsOlderReinsert() {
+        cache.put(response(1L));
+        cache.invalidateAfterCommit(id, 2L);
+
+        assertThat(cache.get(id)).isEmpty();
+        assertThat(cache.getAll(List.of(id))).isEmpty();
+
+        cache.put(response(1L));
+        assertThat(cache.get(id)).isEmpty();
+
+        cache.put(response(2L));
+        assertThat(cache.get(id)).hasValueSatisfying(cached -> assertThat(cached.getVersion()).isEqualTo(2L));
+    }
+
+    @Test
+    void get_EntryOlderThanCurrentVersion_IsDroppedUntilReloaded() {
+        cache.put(response(1L));
+
+        assertThat(cache.get(id, 1L)).isPresent();
+        assertThat(cache.get(id, 2L)).isEmpty();
+        assertThat(cache.get(id)).isEmpty();
+
+        cache.put(response(1L));
+        assertThat(cache.get(id)).isEmpty();
+
+        cache.put(response(2L));
+        assertThat(cache.get(id, 2L)).hasValueSatisfying(cached -> assertThat(cached.getVersion()).isEqualTo(2L));
+    }
+
+    @Test
+    void getAll_ReportsHitsAndDeletedResources() {
+        UUID deleted = UUID.randomUUID();
+        cache.put(response(1L));
+        cache.markDeletedAfterCommit(deleted);
+
+        Map<UUID, Optional<ResourceResponse>> hits = cache.getAll(List.of(id, deleted, UUID.randomUUID()));
+
+        assertThat(hits).hasSize(2);
+        assertThat(hits.get(id)).hasValueSatisfying(cached -> assertThat(cached.getVersion()).isEqualTo(1L));
+        assertThat(hits.get(deleted)).isEmpty();
+    }
+
+    @Test
+    void get_PublishesHitAndMissMetrics() {
+        cache.get(id);
+        cache.put(response(0L));
+        cache.get(id);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "resources").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "resources").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    private ResourceResponse response(long version) {
+        return ResourceResponse.builder().id(id).version(version).build();
+    }
+}
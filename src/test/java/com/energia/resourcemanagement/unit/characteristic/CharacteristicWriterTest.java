@@ -0,0 +1,144 @@
+package com.energia.resourcemanagement.unit.characteristic;
+
+import com.energia.resourcemanagement.domain.enums.CharacteristicType;
+import com.energia.resourcemanagement.domain.enums.EventType;
+import com.energia.resourcemanagement.dto.response.CharacteristicResponse;
+import com.energia.resourcemanagement.exception.CharacteristicNotFoundException;
+import com.energia.resourcemanagement.exception.InvalidCharacteristicCodeException;
+import com.energia.resourcemanagement.exception.ResourceNotFoundException;
+import com.energia.resourcemanagement.kafka.event.ResourceEvent;
+import com.energia.resourcemanagement.kafka.outbox.ResourceEventOutbox;
+import com.energia.resourcemanagement.service.cache.ResourceResponseCache;
+import com.energia.resourcemanagement.service.characteristic.CharacteristicWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CharacteristicWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ResourceEventOutbox eventOutbox;
+
+    @Mock
+    private ResourceResponseCache resourceCache;
+
+    private CharacteristicWriter writer;
+    private final UUID resourceId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        writer = new CharacteristicWriter(jdbcTemplate, eventOutbox, resourceCache);
+    }
+
+    @Test
+    void put_NewCharacteristic_BumpsVersionAndPublishesSmallEvent() {
+        lockedAt(3L);
+        when(jdbcTemplate.queryForList(startsWith("INSERT INTO characteristics"), eq(Boolean.class),
+                any(), eq(resourceId), eq("C1"), eq("CHARGING_POINT"), eq("22kW")))
+                .thenReturn(List.of(true));
+        when(jdbcTemplate.queryForObject(startsWith("UPDATE resources"), eq(Long.class), any(), eq(resourceId)))
+                .thenReturn(4L);
+
+        CharacteristicResponse response = writer.put(resourceId, CharacteristicType.CHARGING_POINT, "C1", "22kW", 3L);
+
+        assertThat(response.getResourceVersion()).isEqualTo(4L);
+        ArgumentCaptor<ResourceEvent> event = ArgumentCaptor.forClass(ResourceEvent.class);
+        verify(eventOutbox).append(event.capture());
+        assertThat(event.getValue().getEventType()).isEqualTo(EventType.CHARACTERISTIC_CREATED);
+        assertThat(event.getValue().getResource()).isNull();
+        assertThat(event.getValue().getCharacteristic().getValue()).isEqualTo("22kW");
+        assertThat(event.getValue().getResourceVersion()).isEqualTo(4L);
+        verify(resourceCache).invalidateAfterCommit(resourceId, 4L);
+    }
+
+    @Test
+    void put_UnchangedValue_LeavesVersionAndPublishesNothing() {
+        lockedAt(3L);
+        when(jdbcTemplate.queryForList(startsWith("INSERT INTO characteristics"), eq(Boolean.class),
+                any(), eq(resourceId), eq("C1"), eq("CHARGING_POINT"), eq("22kW")))
+                .thenReturn(List.of());
+
+        CharacteristicResponse response = writer.put(resourceId, CharacteristicType.CHARGING_POINT, "C1", "22kW", null);
+
+        assertThat(response.getResourceVersion()).isEqualTo(3L);
+        verify(jdbcTemplate, never()).queryForObject(startsWith("UPDATE resources"), eq(Long.class), any(), any());
+        verifyNoInteractions(eventOutbox, resourceCache);
+    }
+
+    @Test
+    void put_StaleVersion_ThrowsBeforeWriting() {
+        lockedAt(3L);
+
+        assertThatThrownBy(() -> writer.put(resourceId, CharacteristicType.CHARGING_POINT, "C1", "22kW", 2L))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        verify(jdbcTemplate, never()).queryForList(startsWith("INSERT"), eq(Boolean.class), any(Object[].class));
+        verifyNoInteractions(eventOutbox);
+    }
+
+    @Test
+    void put_UnknownResourceOrInvalidCode_IsRejected() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(resourceId))).thenReturn(List.of());
+
+        assertThatThrownBy(() -> writer.put(resourceId, CharacteristicType.CHARGING_POINT, "C1", "x", null))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> writer.put(resourceId, CharacteristicType.CHARGING_POINT, "c-1", "x", null))
+                .isInstanceOf(InvalidCharacteristicCodeException.class);
+    }
+
+    @Test
+    void delete_MissingCharacteristic_ThrowsWithoutBumpingVersion() {
+        lockedAt(3L);
+        when(jdbcTemplate.update(startsWith("DELETE FROM characteristics"), eq(resourceId), eq("CHARGING_POINT"), eq("C1")))
+                .thenReturn(0);
+
+        assertThatThrownBy(() -> writer.delete(resourceId, CharacteristicType.CHARGING_POINT, "C1", null))
+                .isInstanceOf(CharacteristicNotFoundException.class);
+
+        verifyNoInteractions(eventOutbox, resourceCache);
+    }
+
+    @Test
+    void delete_PublishesCharacteristicDeleted() {
+        lockedAt(3L);
+        when(jdbcTemplate.update(startsWith("DELETE FROM characteristics"), eq(resourceId), eq("CHARGING_POINT"), eq("C1")))
+                .thenReturn(1);
+        when(jdbcTemplate.queryForObject(startsWith("UPDATE resources"), eq(Long.class), any(), eq(resourceId)))
+                .thenReturn(4L);
+
+        assertThat(writer.delete(resourceId, CharacteristicType.CHARGING_POINT, "C1", 3L)).isEqualTo(4L);
+
+        ArgumentCaptor<ResourceEvent> event = ArgumentCaptor.forClass(ResourceEvent.class);
+        verify(eventOutbox).append(event.capture());
+        assertThat(event.getValue().getEventType()).isEqualTo(EventType.CHARACTERISTIC_DELETED);
+        assertThat(event.getValue().getCharacteristic().getCode()).isEqualTo("C1");
+    }
+
+    private void lockedAt(long version) {
+        when(jdbcTemplate.queryForList(startsWith("SELECT version FROM resources"), eq(Long.class), eq(resourceId)))
+                .thenReturn(List.of(version));
+    }
+}
@@ -0,0 +1,50 @@
+package com.energia.resourcemanagement.unit.controller;
+
+import com.energia.resourcemanagement.controller.ResourceETag;
+import com.energia.resourcemanagement.exception.InvalidIfMatchException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResourceETagTest {
+
+    private final UUID id = UUID.fromString("6f1c2a4e-8d3b-4c5a-9e7f-0a1b2c3d4e5f");
+
+    @Test
+    void parseIfMatch_ETagFromResponse_RoundTrips() {
+        String etag = new ResourceETag(id, 7L).format();
+
+        assertThat(etag).isEqualTo("\"6f1c2a4e-8d3b-4c5a-9e7f-0a1b2c3d4e5f-7\"");
+        assertThat(ResourceETag.parseIfMatch(id, etag)).isEqualTo(7L);
+    }
+
+    @Test
+    void parseIfMatch_BareVersion_StillAccepted() {
+        assertThat(ResourceETag.parseIfMatch(id, "12")).isEqualTo(12L);
+    }
+
+    @Test
+    void parseIfMatch_AbsentOrWildcard_SkipsVersionCheck() {
+        assertThat(ResourceETag.parseIfMatch(id, null)).isNull();
+        assertThat(ResourceETag.parseIfMatch(id, "*")).isNull();
+    }
+
+    @Test
+    void parseIfMatch_ETagOfOtherResource_ThrowsException() {
+        String etag = new ResourceETag(UUID.randomUUID(), 7L).format();
+
+        assertThatThrownBy(() -> ResourceETag.parseIfMatch(id, etag))
+                .isInstanceOf(InvalidIfMatchException.class);
+    }
+
+    @Test
+    void parseIfMatch_WeakOrMalformed_ThrowsException() {
+        assertThatThrownBy(() -> ResourceETag.parseIfMatch(id, "W/\"" + id + "-7\""))
+                .isInstanceOf(InvalidIfMatchException.class);
+        assertThatThrownBy(() -> ResourceETag.parseIfMatch(id, "\"" + id + "-x\""))
+                .isInstanceOf(InvalidIfMatchException.class);
+    }
+}
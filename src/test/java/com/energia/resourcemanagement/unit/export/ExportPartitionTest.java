@@ -0,0 +1,38 @@
+package com.energia.resourcemanagement.unit.export;
+
+import com.energia.resourcemanagement.service.export.ExportPartition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExportPartitionTest {
+
+    @Test
+    void split_SinglePartition_CoversWholeKeySpace() {
+        List<ExportPartition> partitions = ExportPartition.split(1);
+
+        assertThat(partitions).hasSize(1);
+        assertThat(partitions.get(0).getLowerBound()).isEqualTo(UUID.fromString("00000000-0000-0000-0000-000000000000"));
+        assertThat(partitions.get(0).getUpperBound()).isEqualTo(UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff"));
+    }
+
+    @Test
+    void split_FourPartitions_AreContiguousAndDisjoint() {
+        List<ExportPartition> partitions = ExportPartition.split(4);
+
+        assertThat(partitions).extracting(p -> p.getLowerBound().toString()).containsExactly(
+                "00000000-0000-0000-0000-000000000000",
+                "40000000-0000-0000-0000-000000000000",
+                "80000000-0000-0000-0000-000000000000",
+                "c0000000-0000-0000-0000-000000000000");
+        assertThat(partitions).extracting(p -> p.getUpperBound().toString()).containsExactly(
+                "3fffffff-ffff-ffff-ffff-ffffffffffff",
+                "7fffffff-ffff-ffff-ffff-ffffffffffff",
+                "bfffffff-ffff-ffff-ffff-ffffffffffff",
+                "ffffffff-ffff-ffff-ffff-ffffffffffff");
+        assertThat(partitions).extracting(ExportPartition::getIndex).containsExactly(0, 1, 2, 3);
+    }
+}
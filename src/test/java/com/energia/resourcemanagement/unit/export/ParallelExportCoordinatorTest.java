@@ -0,0 +1,66 @@
+package com.energia.resourcemanagement.unit.export;
+
+import com.energia.resourcemanagement.exception.InvalidExportRequestException;
+import com.energia.resourcemanagement.repository.ExportJobPartitionRepository;
+import com.energia.resourcemanagement.service.ResourceService;
+import com.energia.resourcemanagement.service.export.ParallelExportCoordinator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelExportCoordinatorTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private ResourceService resourceService;
+
+    @Mock
+    private ExportJobPartitionRepository partitionRepository;
+
+    @Mock
+    private ThreadPoolTaskExecutor exportWorkerExecutor;
+
+    private ParallelExportCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        coordinator = new ParallelExportCoordinator(dataSource, resourceService, partitionRepository, exportWorkerExecutor);
+        ReflectionTestUtils.setField(coordinator, "defaultWorkers", 1);
+        ReflectionTestUtils.setField(coordinator, "maxWorkers", 4);
+        ReflectionTestUtils.setField(coordinator, "maximumPoolSize", 10);
+        ReflectionTestUtils.setField(coordinator, "reservedConnections", 4);
+        ReflectionTestUtils.invokeMethod(coordinator, "init");
+    }
+
+    @Test
+    void resolveWorkerCount_WithinConnectionBudget() {
+        // 2 workers need 5 of the 6 connections left for exports
+        assertThat(coordinator.resolveWorkerCount(2)).isEqualTo(2);
+        assertThat(coordinator.resolveWorkerCount(null)).isEqualTo(1);
+    }
+
+    @Test
+    void resolveWorkerCount_BeyondConnectionBudget_ThrowsException() {
+        assertThatThrownBy(() -> coordinator.resolveWorkerCount(3))
+                .isInstanceOf(InvalidExportRequestException.class)
+                .hasMessageContaining("7 database connections");
+    }
+
+    @Test
+    void resolveWorkerCount_AboveMaxWorkers_ThrowsException() {
+        assertThatThrownBy(() -> coordinator.resolveWorkerCount(5))
+                .isInstanceOf(InvalidExportRequestException.class);
+    }
+}
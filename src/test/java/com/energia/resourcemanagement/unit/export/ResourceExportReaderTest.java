@@ -0,0 +1,151 @@
+package com.energia.resourcemanagement.unit.export;
+
+import com.energia.resourcemanagement.domain.entity.Characteristic;
+import com.energia.resourcemanagement.domain.entity.Resource;
+import com.energia.resourcemanagement.domain.entity.ResourceDeletion;
+import com.energia.resourcemanagement.dto.common.CharacteristicDTO;
+import com.energia.resourcemanagement.dto.response.ResourceResponse;
+import com.energia.resourcemanagement.mapper.ResourceMapper;
+import com.energia.resourcemanagement.mapper.ResourceResponseAssembler;
+import com.energia.resourcemanagement.repository.CharacteristicRepository;
+import com.energia.resourcemanagement.repository.ResourceDeletionRepository;
+import com.energia.resourcemanagement.repository.ResourceRepository;
+import com.energia.resourcemanagement.service.export.DeltaExportFilter;
+import com.energia.resourcemanagement.service.export.ExportCursor;
+import com.energia.resourcemanagement.service.export.ExportPartition;
+import com.energia.resourcemanagement.service.export.ExportProgress;
+import com.energia.resourcemanagement.service.export.ResourceExportReader;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceExportReaderTest {
+
+    @Mock
+    private ResourceRepository resourceRepository;
+
+    @Mock
+    private CharacteristicRepository characteristicRepository;
+
+    @Mock
+    private ResourceDeletionRepository deletionRepository;
+
+    @Mock
+    private ResourceMapper resourceMapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private ResourceExportReader reader;
+
+    private final ExportPartition all = ExportPartition.split(1).get(0);
+
+    @BeforeEach
+    void setUp() {
+        reader = new ResourceExportReader(resourceRepository, deletionRepository,
+                new ResourceResponseAssembler(characteristicRepository, resourceMapper), entityManager);
+    }
+
+    @Test
+    void read_AdvancesKeysetCursorAndClearsEachChunk() {
+        Resource first = resource("00000000-0000-0000-0000-000000000001");
+        Resource second = resource("00000000-0000-0000-0000-000000000002");
+        Resource third = resource("00000000-0000-0000-0000-000000000003");
+        Characteristic characteristic = Characteristic.builder().code("C1").resource(first).build();
+        CharacteristicDTO characteristicDTO = CharacteristicDTO.builder().code("C1").build();
+
+        when(resourceRepository.findExportChunkFrom(eq(all.getLowerBound()), eq(all.getUpperBound()), any()))
+                .thenReturn(List.of(first, second));
+        when(resourceRepository.findExportChunkAfter(eq(second.getId()), eq(all.getUpperBound()), any()))
+                .thenReturn(List.of(third));
+        when(characteristicRepository.findByResourceIds(List.of(first.getId(), second.getId())))
+                .thenReturn(List.of(characteristic));
+        when(characteristicRepository.findByResourceIds(List.of(third.getId()))).thenReturn(List.of());
+        when(resourceMapper.toResponseWithoutCharacteristics(any(Resource.class))).thenAnswer(invocation ->
+                ResourceResponse.builder().id(invocation.<Resource>getArgument(0).getId()).build());
+        when(resourceMapper.toCharacteristicDTOList(List.of(characteristic))).thenReturn(List.of(characteristicDTO));
+
+        List<UUID> cursors = new ArrayList<>();
+        List<ResourceResponse> read = new ArrayList<>();
+        long total = reader.read(all, null, 2, new ExportProgress(UUID.randomUUID()), (responses, lastId) -> {
+            read.addAll(responses);
+            cursors.add(lastId.resourceId());
+        });
+
+        assertThat(total).isEqualTo(3);
+        assertThat(cursors).containsExactly(second.getId(), third.getId());
+        assertThat(read.get(0).getCharacteristics()).containsExactly(characteristicDTO);
+        assertThat(read.get(1).getCharacteristics()).isEmpty();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void read_WithCursor_StartsAfterIt() {
+        UUID cursor = UUID.fromString("80000000-0000-0000-0000-000000000000");
+        when(resourceRepository.findExportChunkAfter(eq(cursor), eq(all.getUpperBound()), any()))
+                .thenReturn(List.of());
+
+        long total = reader.read(all, cursor, 2, new ExportProgress(UUID.randomUUID()), (responses, lastId) -> {
+        });
+
+        assertThat(total).isZero();
+        verify(resourceRepository, never()).findExportChunkFrom(any(), any(), any());
+    }
+
+    @Test
+    void read_Cancelled_ReadsNothing() {
+        ExportProgress progress = new ExportProgress(UUID.randomUUID());
+        progress.cancel();
+
+        long total = reader.read(all, null, 2, progress, (responses, lastId) -> {
+        });
+
+        assertThat(total).isZero();
+        verifyNoInteractions(resourceRepository, characteristicRepository);
+    }
+
+    @Test
+    void readDeletions_AdvancesDeletedAtCursor() {
+        LocalDateTime deletedAt = LocalDateTime.of(2026, 1, 2, 3, 4);
+        DeltaExportFilter filter = new DeltaExportFilter(deletedAt.minusDays(1), deletedAt.plusDays(1), null, null);
+        ResourceDeletion first = ResourceDeletion.builder()
+                .resourceId(UUID.randomUUID()).deletedAt(deletedAt).build();
+        ResourceDeletion second = ResourceDeletion.builder()
+                .resourceId(UUID.randomUUID()).deletedAt(deletedAt).build();
+        when(deletionRepository.findDeltaChunk(eq(filter.since()), eq(filter.until()), isNull(), isNull(), any()))
+                .thenReturn(List.of(first, second));
+        when(deletionRepository.findDeltaChunkAfter(eq(filter.since()), eq(filter.until()), isNull(), isNull(),
+                eq(deletedAt), eq(second.getResourceId()), any()))
+                .thenReturn(List.of());
+
+        List<UUID> deleted = new ArrayList<>();
+        List<ExportCursor> cursors = new ArrayList<>();
+        long total = reader.readDeletions(filter, null, 2, new ExportProgress(UUID.randomUUID()), (ids, cursor) -> {
+            deleted.addAll(ids);
+            cursors.add(cursor);
+        });
+
+        assertThat(total).isEqualTo(2);
+        assertThat(deleted).containsExactly(first.getResourceId(), second.getResourceId());
+        assertThat(cursors).containsExactly(new ExportCursor(second.getResourceId(), deletedAt));
+    }
+
+    private Resource resource(String id) {
+        return Resource.builder().id(UUID.fromString(id)).build();
+    }
+}
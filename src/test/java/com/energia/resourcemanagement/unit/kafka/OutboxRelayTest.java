@@ -0,0 +1,217 @@
+package com.energia.resourcemanagement.unit.kafka;
+
+import com.energia.resourcemanagement.domain.entity.OutboxEvent;
+import com.energia.resourcemanagement.domain.enums.EventType;
+import com.energia.resourcemanagement.kafka.event.ResourceEvent;
+import com.energia.resourcemanagement.kafka.outbox.OutboxRelay;
+import com.energia.resourcemanagement.kafka.producer.ResourceEventProducer;
+import com.energia.resourcemanagement.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ResourceEventProducer eventProducer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxEventRepository, eventProducer, objectMapper,
+                new TransactionTemplate(transactionManager), meterRegistry);
+        ReflectionTestUtils.setField(relay, "batchSize", 2);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(relay, "maxBatchesPerTick", 10);
+        ReflectionTestUtils.invokeMethod(relay, "registerMetrics");
+    }
+
+    @Test
+    void relay_DeletesOnlyAcknowledgedEvents() throws Exception {
+        OutboxEvent first = outboxEvent(1L);
+        OutboxEvent second = outboxEvent(2L);
+        claim(3);
+        when(outboxEventRepository.findNextBatch(3, 2)).thenReturn(List.of(first, second));
+        when(eventProducer.sendResourceEvent(any(ResourceEvent.class)))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        relay.relay();
+
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L));
+        // One batch with a failure ends the poll, the failed row is retried next time
+        verify(outboxEventRepository, times(1)).findNextBatch(3, 2);
+        assertThat(meterRegistry.counter("outbox.relay.published").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("outbox.relay.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void relay_FullBatch_KeepsDraining() throws Exception {
+        claim(3);
+        when(outboxEventRepository.findNextBatch(3, 2))
+                .thenReturn(List.of(outboxEvent(1L), outboxEvent(2L)))
+                .thenReturn(List.of(outboxEvent(3L)));
+        when(eventProducer.sendResourceEvent(any(ResourceEvent.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        relay.relay();
+
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void relay_FailedEvent_HoldsBackLaterEventsOfItsResource() throws Exception {
+        UUID resourceId = UUID.randomUUID();
+        OutboxEvent older = outboxEvent(1L, resourceId);
+        OutboxEvent other = outboxEvent(2L);
+        OutboxEvent newer = outboxEvent(3L, resourceId);
+        ReflectionTestUtils.setField(relay, "batchSize", 3);
+        claim(3);
+        when(outboxEventRepository.findNextBatch(3, 3)).thenReturn(List.of(older, other, newer));
+        when(eventProducer.sendResourceEvent(any(ResourceEvent.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        relay.relay();
+
+        // The newer event of the failed resource is never sent, so the retry cannot arrive after it
+        verify(eventProducer, times(2)).sendResourceEvent(any(ResourceEvent.class));
+        verify(eventProducer, never()).sendResourceEvent(argThat(event -> event.getEventId().equals(newer.getEventId())));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(2L));
+    }
+
+    @Test
+    void relay_SendsEventsOfOneResourceOneAtATime() throws Exception {
+        UUID resourceId = UUID.randomUUID();
+        OutboxEvent older = outboxEvent(1L, resourceId);
+        OutboxEvent newer = outboxEvent(2L, resourceId);
+        // Acknowledged only once the relay waits for it
+        CompletableFuture<Object> olderAck = new CompletableFuture<>() {
+            @Override
+            public Object get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+                complete(null);
+                return super.get(timeout, unit);
+            }
+        };
+        claim(3);
+        when(outboxEventRepository.findNextBatch(3, 2)).thenReturn(List.of(older, newer)).thenReturn(List.of());
+        when(eventProducer.sendResourceEvent(any(ResourceEvent.class))).thenAnswer(invocation -> {
+            ResourceEvent event = invocation.getArgument(0);
+            if (event.getEventId().equals(older.getEventId())) {
+                return olderAck;
+            }
+            // Only sent once the older event was acknowledged
+            assertThat(olderAck).isDone();
+            return CompletableFuture.completedFuture(null);
+        });
+
+        relay.relay();
+
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    void relay_StopsAfterMaxBatchesPerTick() throws Exception {
+        ReflectionTestUtils.setField(relay, "maxBatchesPerTick", 3);
+        claim(3);
+        when(outboxEventRepository.findNextBatch(3, 2))
+                .thenAnswer(invocation -> List.of(outboxEvent(1L), outboxEvent(2L)));
+        when(eventProducer.sendResourceEvent(any(ResourceEvent.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        relay.relay();
+
+        verify(outboxEventRepository, times(3)).findNextBatch(3, 2);
+    }
+
+    @Test
+    void relay_FailedBatch_EndsPollForAllBuckets() throws Exception {
+        when(outboxEventRepository.findPendingBuckets()).thenReturn(List.of(3, 7));
+        when(outboxEventRepository.tryLockBucket(anyInt())).thenReturn(true);
+        when(outboxEventRepository.findNextBatch(anyInt(), eq(2))).thenReturn(List.of(outboxEvent(1L)));
+        when(eventProducer.sendResourceEvent(any(ResourceEvent.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        relay.relay();
+
+        verify(outboxEventRepository, times(1)).findNextBatch(anyInt(), eq(2));
+    }
+
+    @Test
+    void relay_SkipsBucketClaimedByAnotherInstance() {
+        when(outboxEventRepository.findPendingBuckets()).thenReturn(List.of(3));
+        when(outboxEventRepository.tryLockBucket(3)).thenReturn(false);
+
+        relay.relay();
+
+        verify(outboxEventRepository, never()).findNextBatch(anyInt(), anyInt());
+        verifyNoInteractions(eventProducer);
+    }
+
+    @Test
+    void lagGauge_ReportsAgeOfOldestEvent() {
+        when(outboxEventRepository.findOldestEventAgeSeconds()).thenReturn(12.5).thenReturn(null);
+
+        assertThat(meterRegistry.get("outbox.relay.lag").gauge().value()).isEqualTo(12.5);
+        assertThat(meterRegistry.get("outbox.relay.lag").gauge().value()).isZero();
+    }
+
+    private void claim(int bucket) {
+        when(outboxEventRepository.findPendingBuckets()).thenReturn(List.of(bucket));
+        when(outboxEventRepository.tryLockBucket(bucket)).thenReturn(true);
+    }
+
+    private OutboxEvent outboxEvent(long id) throws Exception {
+        return outboxEvent(id, UUID.randomUUID());
+    }
+
+    private OutboxEvent outboxEvent(long id, UUID resourceId) throws Exception {
+        ResourceEvent event = ResourceEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(EventType.RESOURCE_UPDATED)
+                .resourceId(resourceId)
+                .build();
+        return OutboxEvent.builder()
+                .id(id)
+                .eventId(event.getEventId())
+                .eventType(event.getEventType())
+                .resourceId(event.getResourceId())
+                .payload(objectMapper.writeValueAsString(event))
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.energia.resourcemanagement.unit.kafka;
+
+import com.energia.resourcemanagement.domain.enums.CharacteristicType;
+import com.energia.resourcemanagement.domain.enums.EventType;
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+import com.energia.resourcemanagement.dto.common.CharacteristicDTO;
+import com.energia.resourcemanagement.dto.common.LocationDTO;
+import com.energia.resourcemanagement.dto.response.ResourceResponse;
+import com.energia.resourcemanagement.kafka.event.ResourceEvent;
+import com.energia.resourcemanagement.kafka.serialization.PayloadFormat;
+import com.energia.resourcemanagement.kafka.serialization.ResourceBinaryCodec;
+import com.energia.resourcemanagement.kafka.serialization.ResourcePayloadSerializer;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResourceBinaryCodecTest {
+
+    @Test
+    void encode_ResourceEvent_RoundTrips() {
+        ResourceEvent event = ResourceEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(EventType.RESOURCE_UPDATED)
+                .resourceId(UUID.randomUUID())
+                .resource(resource(1))
+                .timestamp(Instant.parse("2024-05-01T10:15:30.123456789Z"))
+                .build();
+
+        assertThat(ResourceBinaryCodec.decode(ResourceBinaryCodec.encode(event))).isEqualTo(event);
+    }
+
+    @Test
+    void encode_CharacteristicEvent_RoundTrips() {
+        ResourceEvent event = ResourceEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(EventType.CHARACTERISTIC_UPDATED)
+                .resourceId(UUID.randomUUID())
+                .characteristic(CharacteristicDTO.builder().code("C1")
+                        .type(CharacteristicType.CHARGING_POINT).value("22kW").build())
+                .resourceVersion(7L)
+                .timestamp(Instant.parse("2024-05-01T10:15:30Z"))
+                .build();
+
+        assertThat(ResourceBinaryCodec.decode(ResourceBinaryCodec.encode(event))).isEqualTo(event);
+    }
+
+    @Test
+    void decode_V1ResourceEvent_WithoutTrailingFields() {
+        ResourceEvent event = ResourceEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(EventType.RESOURCE_DELETED)
+                .resourceId(UUID.randomUUID())
+                .resource(resource(1))
+                .timestamp(Instant.parse("2024-05-01T10:15:30Z"))
+                .build();
+        byte[] payload = ResourceBinaryCodec.encode(event);
+        // A v1 event ends after the timestamp, before the two absent-marker bytes
+        byte[] v1 = Arrays.copyOf(payload, payload.length - 2);
+
+        assertThat(ResourceBinaryCodec.decode(v1)).isEqualTo(event);
+    }
+
+    @Test
+    void encode_BatchWithNulls_RoundTrips() {
+        ResourceResponse sparse = ResourceResponse.builder().id(UUID.randomUUID()).build();
+        ResourceResponse withoutCharacteristics = resource(2);
+        withoutCharacteristics.setCharacteristics(List.of());
+        List<ResourceResponse> batch = List.of(resource(1), sparse, withoutCharacteristics);
+
+        assertThat(ResourceBinaryCodec.decode(ResourceBinaryCodec.encode(batch))).isEqualTo(batch);
+    }
+
+    @Test
+    void decode_TruncatedPayload_ThrowsException() {
+        byte[] payload = ResourceBinaryCodec.encode(List.of(resource(1)));
+        byte[] truncated = Arrays.copyOf(payload, payload.length / 2);
+
+        assertThatThrownBy(() -> ResourceBinaryCodec.decode(truncated))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void serialize_BinaryFormat_IsSeveralTimesSmallerThanJson() {
+        List<ResourceResponse> batch = IntStream.range(0, 1000).mapToObj(this::resource).toList();
+        RecordHeaders jsonHeaders = new RecordHeaders();
+        RecordHeaders binaryHeaders = new RecordHeaders();
+
+        byte[] json = serializer(PayloadFormat.JSON).serialize("resource-events", jsonHeaders, batch);
+        byte[] binary = serializer(PayloadFormat.BINARY).serialize("resource-events", binaryHeaders, batch);
+
+        assertThat(binary.length * 3).isLessThan(json.length);
+        assertThat(jsonHeaders.lastHeader(PayloadFormat.HEADER).value()).isEqualTo(PayloadFormat.JSON.headerBytes());
+        assertThat(PayloadFormat.fromHeader(binaryHeaders.lastHeader(PayloadFormat.HEADER).value()))
+                .isEqualTo(PayloadFormat.BINARY);
+    }
+
+    @Test
+    void serialize_UnsupportedPayload_FallsBackToJson() {
+        RecordHeaders headers = new RecordHeaders();
+
+        serializer(PayloadFormat.BINARY).serialize("resource-events", headers, Map.of("key", "value"));
+
+        assertThat(headers.lastHeader(PayloadFormat.HEADER).value()).isEqualTo(PayloadFormat.JSON.headerBytes());
+    }
+
+    private ResourcePayloadSerializer serializer(PayloadFormat format) {
+        ResourcePayloadSerializer serializer = new ResourcePayloadSerializer(format);
+        serializer.configure(Map.of(), false);
+        return serializer;
+    }
+
+    private ResourceResponse resource(int i) {
+        return ResourceResponse.builder()
+                .id(UUID.randomUUID())
+                .type(ResourceType.CONNECTION_POINT)
+                .countryCode("FI")
+                .location(LocationDTO.builder()
+                        .streetAddress("Generated Street " + i)
+                        .city("Tampere")
+                        .postalCode(String.valueOf(10000 + i))
+                        .countryCode("FI")
+                        .build())
+                .characteristics(List.of(
+                        CharacteristicDTO.builder().code("GEN" + i % 100)
+                                .type(CharacteristicType.CONNECTION_POINT_STATUS).value("Generated_" + i % 10).build(),
+                        CharacteristicDTO.builder().code("CT" + i % 100)
+                                .type(CharacteristicType.CONSUMPTION_TYPE).value("RESIDENTIAL").build()))
+                .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0).plusSeconds(i))
+                .updatedAt(LocalDateTime.of(2024, 2, 1, 12, 0).plusNanos(i * 1000L))
+                .version((long) i)
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.energia.resourcemanagement.unit.kafka;
+
+import com.energia.resourcemanagement.dto.response.ResourceResponse;
+import com.energia.resourcemanagement.kafka.producer.ResourceEventProducer;
+import com.energia.resourcemanagement.service.export.ExportProgress;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.internals.BuiltInPartitioner;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceEventProducerTest {
+
+    private static final String TOPIC = "resource-events";
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @InjectMocks
+    private ResourceEventProducer producer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(producer, "resourceEventsTopic", TOPIC);
+        ReflectionTestUtils.setField(producer, "maxInFlightBatches", 2);
+        ReflectionTestUtils.setField(producer, "maxRetries", 2);
+        ReflectionTestUtils.setField(producer, "retryBackoffMs", 1L);
+        ReflectionTestUtils.invokeMethod(producer, "init");
+    }
+
+    @Test
+    void sendBulkExport_FailedBatch_IsRetriedAndCountedOnce() {
+        when(kafkaTemplate.send(eq(TOPIC), eq("bulk-export"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("timeout")))
+                .thenReturn(CompletableFuture.completedFuture(sendResult(300)));
+
+        ExportProgress progress = new ExportProgress(UUID.randomUUID());
+        long bytes = producer.sendBulkExport(resources(10), progress).join();
+
+        assertThat(bytes).isEqualTo(300);
+        assertThat(progress.getRowsExported()).isEqualTo(10);
+        assertThat(progress.getFailedRecords()).isZero();
+        verify(kafkaTemplate, times(2)).send(eq(TOPIC), eq("bulk-export"), any());
+        assertThat(inFlightPermits()).isEqualTo(2);
+    }
+
+    @Test
+    void sendBulkExport_RetriesExhausted_FailsAndReleasesWindow() {
+        when(kafkaTemplate.send(eq(TOPIC), eq("bulk-export"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        ExportProgress progress = new ExportProgress(UUID.randomUUID());
+
+        assertThatThrownBy(() -> producer.sendBulkExport(resources(10), progress).join())
+                .hasRootCauseMessage("broker down");
+        assertThat(progress.getFailedRecords()).isEqualTo(10);
+        assertThat(progress.getRowsExported()).isZero();
+        verify(kafkaTemplate, times(3)).send(eq(TOPIC), eq("bulk-export"), any());
+        assertThat(inFlightPermits()).isEqualTo(2);
+    }
+
+    @Test
+    void sendBulkExport_WindowFull_WaitsForAcknowledgement() throws Exception {
+        CompletableFuture<SendResult<String, Object>> first = new CompletableFuture<>();
+        CompletableFuture<SendResult<String, Object>> second = new CompletableFuture<>();
+        when(kafkaTemplate.send(eq(TOPIC), eq("bulk-export"), any()))
+                .thenReturn(first, second, CompletableFuture.completedFuture(sendResult(100)));
+
+        ExportProgress progress = new ExportProgress(UUID.randomUUID());
+        CompletableFuture<CompletableFuture<Long>> sending = CompletableFuture.supplyAsync(
+                () -> producer.sendBulkExport(resources(2500), progress));
+
+        Thread.sleep(200);
+        assertThat(sending).isNotDone();
+        verify(kafkaTemplate, times(2)).send(eq(TOPIC), eq("bulk-export"), any());
+
+        first.complete(sendResult(100));
+        second.complete(sendResult(100));
+
+        assertThat(sending.get().join()).isEqualTo(300);
+        assertThat(progress.getRowsExported()).isEqualTo(2500);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendBulkExport_PartitionAware_SendsResourcesToTheirEventPartition() {
+        ReflectionTestUtils.setField(producer, "partitionAware", true);
+        when(kafkaTemplate.partitionsFor(TOPIC)).thenReturn(List.of(
+                new PartitionInfo(TOPIC, 0, null, null, null),
+                new PartitionInfo(TOPIC, 1, null, null, null),
+                new PartitionInfo(TOPIC, 2, null, null, null)));
+        when(kafkaTemplate.send(eq(TOPIC), anyInt(), eq("bulk-export"), any()))
+                .thenReturn(CompletableFuture.completedFuture(sendResult(100)));
+
+        ExportProgress progress = new ExportProgress(UUID.randomUUID());
+        producer.sendBulkExport(resources(300), progress).join();
+
+        ArgumentCaptor<Integer> partitions = ArgumentCaptor.forClass(Integer.class);
+        ArgumentCaptor<Object> batches = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate, times(3)).send(eq(TOPIC), partitions.capture(), eq("bulk-export"), batches.capture());
+        assertThat(partitions.getAllValues()).containsExactly(0, 1, 2);
+        for (int i = 0; i < 3; i++) {
+            int partition = partitions.getAllValues().get(i);
+            // Same partition the default partitioner picks for a per-resource event keyed by the id
+            assertThat((List<ResourceResponse>) batches.getAllValues().get(i)).allSatisfy(resource ->
+                    assertThat(BuiltInPartitioner.partitionForKey(
+                            resource.getId().toString().getBytes(StandardCharsets.UTF_8), 3)).isEqualTo(partition));
+        }
+        assertThat(progress.getRowsExported()).isEqualTo(300);
+    }
+
+    private int inFlightPermits() {
+        return ((Semaphore) ReflectionTestUtils.getField(producer, "inFlightBatches")).availablePermits();
+    }
+
+    private static List<ResourceResponse> resources(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> ResourceResponse.builder().id(UUID.randomUUID()).build())
+                .toList();
+    }
+
+    private static SendResult<String, Object> sendResult(int serializedValueSize) {
+        return new SendResult<>(new ProducerRecord<>(TOPIC, "bulk-export", List.of()),
+                new RecordMetadata(new TopicPartition(TOPIC, 0), 0, 0, 0L, 11, serializedValueSize));
+    }
+}
@@ -0,0 +1,97 @@
+package com.energia.resourcemanagement.unit.mapper;
+
+import com.energia.resourcemanagement.domain.entity.Characteristic;
+import com.energia.resourcemanagement.domain.entity.Resource;
+import com.energia.resourcemanagement.dto.common.CharacteristicDTO;
+import com.energia.resourcemanagement.dto.response.ResourceResponse;
+import com.energia.resourcemanagement.mapper.ResourceMapper;
+import com.energia.resourcemanagement.mapper.ResourceResponseAssembler;
+import com.energia.resourcemanagement.repository.CharacteristicRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceResponseAssemblerTest {
+
+    @Mock
+    private CharacteristicRepository characteristicRepository;
+
+    @Mock
+    private ResourceMapper resourceMapper;
+
+    @InjectMocks
+    private ResourceResponseAssembler assembler;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 500})
+    void toResponses_RunsOneCharacteristicQueryPerPage(int pageSize) {
+        List<Resource> resources = IntStream.range(0, pageSize)
+                .mapToObj(i -> Resource.builder().id(UUID.randomUUID()).build())
+                .toList();
+        when(characteristicRepository.findByResourceIds(anyList())).thenReturn(List.of());
+        when(resourceMapper.toResponseWithoutCharacteristics(any(Resource.class)))
+                .thenAnswer(invocation -> ResourceResponse.builder().build());
+
+        List<ResourceResponse> responses = assembler.toResponses(resources);
+
+        assertThat(responses).hasSize(pageSize);
+        verify(characteristicRepository, times(1)).findByResourceIds(resources.stream().map(Resource::getId).toList());
+        verify(resourceMapper, never()).toResponse(any());
+    }
+
+    @Test
+    void toResponses_AttachesCharacteristicsToTheirResource() {
+        Resource first = Resource.builder().id(UUID.randomUUID()).build();
+        Resource second = Resource.builder().id(UUID.randomUUID()).build();
+        Characteristic characteristic = Characteristic.builder().code("C1").resource(second).build();
+        CharacteristicDTO characteristicDTO = CharacteristicDTO.builder().code("C1").build();
+
+        when(characteristicRepository.findByResourceIds(List.of(first.getId(), second.getId())))
+                .thenReturn(List.of(characteristic));
+        when(resourceMapper.toResponseWithoutCharacteristics(any(Resource.class))).thenAnswer(invocation ->
+                ResourceResponse.builder().id(invocation.<Resource>getArgument(0).getId()).build());
+        when(resourceMapper.toCharacteristicDTOList(List.of(characteristic))).thenReturn(List.of(characteristicDTO));
+        when(resourceMapper.toCharacteristicDTOList(List.of())).thenReturn(List.of());
+
+        List<ResourceResponse> responses = assembler.toResponses(List.of(first, second));
+
+        assertThat(responses.get(0).getCharacteristics()).isEmpty();
+        assertThat(responses.get(1).getCharacteristics()).containsExactly(characteristicDTO);
+    }
+
+    @Test
+    void attachCharacteristics_FillsProjectedResponsesWithOneQuery() {
+        Resource resource = Resource.builder().id(UUID.randomUUID()).build();
+        Characteristic characteristic = Characteristic.builder().code("C1").resource(resource).build();
+        CharacteristicDTO characteristicDTO = CharacteristicDTO.builder().code("C1").build();
+        ResourceResponse response = ResourceResponse.builder().id(resource.getId()).build();
+
+        when(characteristicRepository.findByResourceIds(List.of(resource.getId()))).thenReturn(List.of(characteristic));
+        when(resourceMapper.toCharacteristicDTOList(List.of(characteristic))).thenReturn(List.of(characteristicDTO));
+
+        assembler.attachCharacteristics(List.of(response));
+
+        assertThat(response.getCharacteristics()).containsExactly(characteristicDTO);
+    }
+
+    @Test
+    void toResponses_EmptyPageRunsNoQuery() {
+        assertThat(assembler.toResponses(List.of())).isEmpty();
+
+        verifyNoInteractions(characteristicRepository);
+    }
+}
@@ -0,0 +1,71 @@
+package com.energia.resourcemanagement.unit.projection;
+
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+import com.energia.resourcemanagement.dto.common.LocationDTO;
+import com.energia.resourcemanagement.dto.response.ResourceResponse;
+import com.energia.resourcemanagement.exception.InvalidFieldsException;
+import com.energia.resourcemanagement.service.projection.FieldSelection;
+import com.energia.resourcemanagement.service.projection.ResourceField;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FieldSelectionTest {
+
+    @Test
+    void parse_AbsentOrCompleteSelectionMeansFullResponse() {
+        assertThat(FieldSelection.parse(null)).isNull();
+        assertThat(FieldSelection.parse(" ")).isNull();
+        assertThat(FieldSelection.parse("type,countryCode,location,characteristics,createdAt,updatedAt")).isNull();
+    }
+
+    @Test
+    void parse_AlwaysKeepsIdAndVersion() {
+        FieldSelection selection = FieldSelection.parse("countryCode, type");
+
+        assertThat(selection.columns()).containsExactly(
+                ResourceField.ID, ResourceField.TYPE, ResourceField.COUNTRY_CODE, ResourceField.VERSION);
+        assertThat(selection.includes(ResourceField.CHARACTERISTICS)).isFalse();
+    }
+
+    @Test
+    void parse_CharacteristicsAreNotAColumn() {
+        FieldSelection selection = FieldSelection.parse("characteristics");
+
+        assertThat(selection.includes(ResourceField.CHARACTERISTICS)).isTrue();
+        assertThat(selection.columns()).containsExactly(ResourceField.ID, ResourceField.VERSION);
+    }
+
+    @Test
+    void parse_UnknownField() {
+        assertThatThrownBy(() -> FieldSelection.parse("type,secret"))
+                .isInstanceOf(InvalidFieldsException.class)
+                .hasMessageContaining("secret");
+    }
+
+    @Test
+    void apply_CopiesOnlySelectedFields() {
+        ResourceResponse full = ResourceResponse.builder()
+                .id(UUID.randomUUID())
+                .type(ResourceType.METERING_POINT)
+                .countryCode("EE")
+                .location(LocationDTO.builder().city("Tallinn").build())
+                .characteristics(List.of())
+                .version(3L)
+                .build();
+
+        ResourceResponse pruned = FieldSelection.parse("countryCode").apply(full);
+
+        assertThat(pruned.getId()).isEqualTo(full.getId());
+        assertThat(pruned.getCountryCode()).isEqualTo("EE");
+        assertThat(pruned.getVersion()).isEqualTo(3L);
+        assertThat(pruned.getType()).isNull();
+        assertThat(pruned.getLocation()).isNull();
+        assertThat(pruned.getCharacteristics()).isNull();
+        assertThat(full.getLocation()).isNotNull();
+    }
+}
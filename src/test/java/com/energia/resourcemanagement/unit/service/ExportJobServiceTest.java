@@ -0,0 +1,299 @@
+package com.energia.resourcemanagement.unit.service;
+
+import com.energia.resourcemanagement.domain.entity.ExportCheckpoint;
+import com.energia.resourcemanagement.domain.entity.ExportJob;
+import com.energia.resourcemanagement.domain.entity.ExportWatermark;
+import com.energia.resourcemanagement.domain.enums.ExportJobStatus;
+import com.energia.resourcemanagement.domain.enums.ResourceType;
+import com.energia.resourcemanagement.dto.request.ExportJobRequest;
+import com.energia.resourcemanagement.dto.response.ExportJobResponse;
+import com.energia.resourcemanagement.exception.DeltaExportExpiredException;
+import com.energia.resourcemanagement.exception.ExportJobNotFoundException;
+import com.energia.resourcemanagement.exception.ExportJobStateException;
+import com.energia.resourcemanagement.exception.InvalidExportRequestException;
+import com.energia.resourcemanagement.mapper.ExportJobMapper;
+import com.energia.resourcemanagement.repository.ExportCheckpointRepository;
+import com.energia.resourcemanagement.repository.ExportJobPartitionRepository;
+import com.energia.resourcemanagement.repository.ExportJobRepository;
+import com.energia.resourcemanagement.repository.ExportWatermarkRepository;
+import com.energia.resourcemanagement.service.ResourceService;
+import com.energia.resourcemanagement.service.export.DeltaExportFilter;
+import com.energia.resourcemanagement.service.export.ExportProgress;
+import com.energia.resourcemanagement.service.export.ParallelExportCoordinator;
+import com.energia.resourcemanagement.service.impl.ExportJobServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportJobServiceTest {
+
+    @Mock
+    private ExportJobRepository exportJobRepository;
+
+    @Mock
+    private ExportJobMapper exportJobMapper;
+
+    @Mock
+    private ExportJobPartitionRepository partitionRepository;
+
+    @Mock
+    private ExportCheckpointRepository checkpointRepository;
+
+    @Mock
+    private ExportWatermarkRepository watermarkRepository;
+
+    @Mock
+    private ResourceService resourceService;
+
+    @Mock
+    private ParallelExportCoordinator parallelExportCoordinator;
+
+    @Mock
+    private ThreadPoolTaskExecutor exportTaskExecutor;
+
+    private ExportJobServiceImpl exportJobService;
+
+    private UUID jobId;
+
+    @BeforeEach
+    void setUp() {
+        exportJobService = new ExportJobServiceImpl(
+                exportJobRepository, exportJobMapper, partitionRepository, checkpointRepository, watermarkRepository,
+                resourceService,
+                parallelExportCoordinator, exportTaskExecutor);
+        jobId = UUID.randomUUID();
+        ReflectionTestUtils.setField(exportJobService, "deletionRetentionDays", 30);
+
+        lenient().doAnswer(invocation -> {
+            new SyncTaskExecutor().execute(invocation.getArgument(0));
+            return null;
+        }).when(exportTaskExecutor).execute(any(Runnable.class));
+        lenient().when(exportJobMapper.toResponse(any(ExportJob.class)))
+                .thenAnswer(invocation -> {
+                    ExportJob job = invocation.getArgument(0);
+                    return ExportJobResponse.builder().id(job.getId()).status(job.getStatus()).build();
+                });
+    }
+
+    @Test
+    void startExportJob_RunsExportAndCompletes() {
+        when(parallelExportCoordinator.resolveWorkerCount(null)).thenReturn(1);
+        when(resourceService.getTotalResourceCount()).thenReturn(10L);
+        when(exportJobRepository.save(any(ExportJob.class))).thenAnswer(invocation -> {
+            ExportJob job = invocation.getArgument(0);
+            job.setId(jobId);
+            return job;
+        });
+        when(exportJobRepository.transition(eq(jobId), eq(ExportJobStatus.QUEUED), eq(ExportJobStatus.RUNNING), any()))
+                .thenReturn(1);
+        doAnswer(invocation -> {
+            ExportProgress progress = invocation.getArgument(0);
+            progress.recordAcknowledged(10, 2048);
+            return 10L;
+        }).when(resourceService).exportAllToKafka(any(ExportProgress.class));
+        when(exportJobRepository.finish(eq(jobId), eq(ExportJobStatus.RUNNING), eq(ExportJobStatus.COMPLETED),
+                eq(10L), eq(2048L), eq(0L), isNull(), any())).thenReturn(1);
+
+        ExportJobResponse response = exportJobService.startExportJob(new ExportJobRequest());
+
+        assertThat(response.getId()).isEqualTo(jobId);
+        verify(resourceService).exportAllToKafka(any(ExportProgress.class));
+        verify(parallelExportCoordinator, never()).export(any(), anyInt());
+        verify(exportJobRepository).finish(eq(jobId), eq(ExportJobStatus.RUNNING), eq(ExportJobStatus.COMPLETED),
+                eq(10L), eq(2048L), eq(0L), isNull(), any());
+    }
+
+    @Test
+    void startExportJob_WithWorkers_RunsParallelExport() {
+        when(parallelExportCoordinator.resolveWorkerCount(4)).thenReturn(4);
+        when(exportJobRepository.save(any(ExportJob.class))).thenAnswer(invocation -> {
+            ExportJob job = invocation.getArgument(0);
+            job.setId(jobId);
+            return job;
+        });
+        when(exportJobRepository.transition(eq(jobId), any(), any(), any())).thenReturn(1);
+
+        exportJobService.startExportJob(ExportJobRequest.builder().workers(4).build());
+
+        verify(parallelExportCoordinator).export(any(ExportProgress.class), eq(4));
+        verify(resourceService, never()).exportAllToKafka(any());
+    }
+
+    @Test
+    void startExportJob_ExportFails_MarksJobFailed() {
+        when(parallelExportCoordinator.resolveWorkerCount(null)).thenReturn(1);
+        when(resourceService.getTotalResourceCount()).thenReturn(10L);
+        when(exportJobRepository.save(any(ExportJob.class))).thenAnswer(invocation -> {
+            ExportJob job = invocation.getArgument(0);
+            job.setId(jobId);
+            return job;
+        });
+        when(exportJobRepository.transition(eq(jobId), any(), any(), any())).thenReturn(1);
+        doThrow(new IllegalStateException("broker down")).when(resourceService).exportAllToKafka(any());
+
+        exportJobService.startExportJob(new ExportJobRequest());
+
+        ArgumentCaptor<String> errorCaptor = ArgumentCaptor.forClass(String.class);
+        verify(exportJobRepository).finish(eq(jobId), eq(ExportJobStatus.RUNNING), eq(ExportJobStatus.FAILED),
+                anyLong(), anyLong(), anyLong(), errorCaptor.capture(), any());
+        assertThat(errorCaptor.getValue()).isEqualTo("broker down");
+    }
+
+    @Test
+    void startExportJob_WithWatermark_ExportsDeltaAndAdvancesWatermark() {
+        LocalDateTime stored = LocalDateTime.of(2026, 1, 1, 0, 0);
+        LocalDateTime databaseTime = LocalDateTime.of(2026, 1, 2, 0, 0);
+        ReflectionTestUtils.setField(exportJobService, "commitLagMs", 30000L);
+        when(watermarkRepository.findById("billing")).thenReturn(Optional.of(
+                ExportWatermark.builder().name("billing").watermark(stored).build()));
+        when(watermarkRepository.currentDatabaseTime()).thenReturn(databaseTime);
+        when(exportJobRepository.save(any(ExportJob.class))).thenAnswer(invocation -> {
+            ExportJob job = invocation.getArgument(0);
+            job.setId(jobId);
+            return job;
+        });
+        when(exportJobRepository.transition(eq(jobId), any(), any(), any())).thenReturn(1);
+        when(exportJobRepository.finish(eq(jobId), eq(ExportJobStatus.RUNNING), eq(ExportJobStatus.COMPLETED),
+                anyLong(), anyLong(), anyLong(), isNull(), any())).thenReturn(1);
+
+        exportJobService.startExportJob(ExportJobRequest.builder()
+                .watermark("billing").countryCode("EE").type(ResourceType.METERING_POINT).build());
+
+        ArgumentCaptor<DeltaExportFilter> filterCaptor = ArgumentCaptor.forClass(DeltaExportFilter.class);
+        verify(resourceService).exportDeltaToKafka(filterCaptor.capture(), any(ExportProgress.class));
+        DeltaExportFilter filter = filterCaptor.getValue();
+        assertThat(filter.since()).isEqualTo(stored);
+        assertThat(filter.until()).isEqualTo(databaseTime.minusSeconds(30));
+        assertThat(filter.countryCode()).isEqualTo("EE");
+        assertThat(filter.type()).isEqualTo(ResourceType.METERING_POINT);
+        verify(watermarkRepository).advance("billing", filter.until());
+        verify(resourceService, never()).exportAllToKafka(any());
+    }
+
+    @Test
+    void startExportJob_WatermarkOlderThanDeletionRetention_ThrowsException() {
+        LocalDateTime databaseTime = LocalDateTime.of(2026, 3, 1, 0, 0);
+        when(watermarkRepository.findById("billing")).thenReturn(Optional.of(
+                ExportWatermark.builder().name("billing").watermark(databaseTime.minusDays(31)).build()));
+        when(watermarkRepository.currentDatabaseTime()).thenReturn(databaseTime);
+
+        assertThatThrownBy(() -> exportJobService.startExportJob(ExportJobRequest.builder().watermark("billing").build()))
+                .isInstanceOf(DeltaExportExpiredException.class);
+        verifyNoInteractions(exportJobRepository, resourceService);
+    }
+
+    @Test
+    void startExportJob_FirstRunOfWatermark_ExportsFromEpoch() {
+        when(watermarkRepository.findById("billing")).thenReturn(Optional.empty());
+        when(watermarkRepository.currentDatabaseTime()).thenReturn(LocalDateTime.of(2026, 3, 1, 0, 0));
+        when(exportJobRepository.save(any(ExportJob.class))).thenAnswer(invocation -> {
+            ExportJob job = invocation.getArgument(0);
+            job.setId(jobId);
+            return job;
+        });
+
+        exportJobService.startExportJob(ExportJobRequest.builder().watermark("billing").build());
+
+        ArgumentCaptor<ExportJob> jobCaptor = ArgumentCaptor.forClass(ExportJob.class);
+        verify(exportJobRepository).save(jobCaptor.capture());
+        assertThat(jobCaptor.getValue().getUpdatedSince()).isEqualTo(LocalDateTime.of(1970, 1, 1, 0, 0));
+    }
+
+    @Test
+    void startExportJob_FiltersWithoutDelta_ThrowsException() {
+        assertThatThrownBy(() -> exportJobService.startExportJob(ExportJobRequest.builder().countryCode("EE").build()))
+                .isInstanceOf(InvalidExportRequestException.class);
+        verifyNoInteractions(exportJobRepository, resourceService);
+    }
+
+    @Test
+    void getExportJob_NotFound() {
+        when(exportJobRepository.findById(jobId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> exportJobService.getExportJob(jobId))
+                .isInstanceOf(ExportJobNotFoundException.class)
+                .hasMessageContaining(jobId.toString());
+    }
+
+    @Test
+    void getExportJob_EstimatesFromLastCompletedJob() {
+        LocalDateTime finished = LocalDateTime.now();
+        ExportJob previous = ExportJob.builder()
+                .status(ExportJobStatus.COMPLETED)
+                .rowsExported(1000)
+                .startedAt(finished.minusSeconds(10))
+                .finishedAt(finished)
+                .build();
+        ExportJob queued = ExportJob.builder().id(jobId).status(ExportJobStatus.QUEUED).totalResources(500).build();
+
+        when(exportJobRepository.findById(jobId)).thenReturn(Optional.of(queued));
+        when(exportJobRepository.findFirstByStatusOrderByFinishedAtDesc(ExportJobStatus.COMPLETED))
+                .thenReturn(Optional.of(previous));
+
+        ExportJobResponse response = exportJobService.getExportJob(jobId);
+
+        assertThat(response.getEstimatedSecondsRemaining()).isEqualTo(5L);
+    }
+
+    @Test
+    void cancelExportJob_AlreadyCompleted_ThrowsException() {
+        ExportJob completed = ExportJob.builder().id(jobId).status(ExportJobStatus.COMPLETED).build();
+        when(exportJobRepository.findById(jobId)).thenReturn(Optional.of(completed));
+        when(exportJobRepository.cancel(eq(jobId), any(), eq(ExportJobStatus.CANCELLED), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> exportJobService.cancelExportJob(jobId))
+                .isInstanceOf(ExportJobStateException.class)
+                .hasMessageContaining("COMPLETED");
+    }
+
+    @Test
+    void resumeExportJob_Failed_RequeuesFromCheckpoint() {
+        ExportJob failed = ExportJob.builder().id(jobId).status(ExportJobStatus.FAILED).build();
+        when(exportJobRepository.findById(jobId)).thenReturn(Optional.of(failed));
+        when(exportJobRepository.requeue(eq(jobId), any(), eq(ExportJobStatus.RUNNING), any(),
+                eq(ExportJobStatus.QUEUED))).thenReturn(1);
+        when(checkpointRepository.findByJobId(jobId)).thenReturn(List.of(ExportCheckpoint.builder()
+                .jobId(jobId).partitionIndex(0).lastResourceId(UUID.randomUUID())
+                .rowsExported(40000).bytesSent(4096).build()));
+        when(exportJobRepository.transition(eq(jobId), eq(ExportJobStatus.QUEUED), eq(ExportJobStatus.RUNNING), any()))
+                .thenReturn(1);
+        when(exportJobRepository.finish(eq(jobId), eq(ExportJobStatus.RUNNING), eq(ExportJobStatus.COMPLETED),
+                eq(40000L), eq(4096L), eq(0L), isNull(), any())).thenReturn(1);
+
+        exportJobService.resumeExportJob(jobId);
+
+        verify(exportJobRepository).updateProgress(eq(jobId), eq(40000L), eq(4096L), eq(0L), any());
+        ArgumentCaptor<ExportProgress> progressCaptor = ArgumentCaptor.forClass(ExportProgress.class);
+        verify(resourceService).exportAllToKafka(progressCaptor.capture());
+        assertThat(progressCaptor.getValue().getRowsExported()).isEqualTo(40000L);
+    }
+
+    @Test
+    void resumeExportJob_Completed_ThrowsException() {
+        ExportJob completed = ExportJob.builder().id(jobId).status(ExportJobStatus.COMPLETED).build();
+        when(exportJobRepository.findById(jobId)).thenReturn(Optional.of(completed));
+        when(exportJobRepository.requeue(eq(jobId), any(), any(), any(), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> exportJobService.resumeExportJob(jobId))
+                .isInstanceOf(ExportJobStateException.class)
+                .hasMessageContaining("COMPLETED");
+        verifyNoInteractions(resourceService);
+    }
+}
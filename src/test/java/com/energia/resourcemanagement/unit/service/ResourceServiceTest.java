@@ -1,27 +1,55 @@
 package com.energia.resourcemanagement.unit.service;
 
 import com.energia.resourcemanagement.domain.entity.Characteristic;
+import com.energia.resourcemanagement.domain.entity.ExportCheckpoint;
 import com.energia.resourcemanagement.domain.entity.Location;
 import com.energia.resourcemanagement.domain.entity.Resource;
+import com.energia.resourcemanagement.domain.enums.BatchOperationStatus;
+import com.energia.resourcemanagement.domain.enums.BatchOperationType;
 import com.energia.resourcemanagement.domain.enums.CharacteristicType;
 import com.energia.resourcemanagement.domain.enums.EventType;
 import com.energia.resourcemanagement.domain.enums.ResourceType;
 import com.energia.resourcemanagement.dto.common.CharacteristicDTO;
 import com.energia.resourcemanagement.dto.common.LocationDTO;
+import com.energia.resourcemanagement.dto.request.BatchOperation;
+import com.energia.resourcemanagement.dto.request.CharacteristicFilterRequest;
 import com.energia.resourcemanagement.dto.request.CreateResourceRequest;
 import com.energia.resourcemanagement.dto.request.UpdateResourceRequest;
+import com.energia.resourcemanagement.dto.response.BatchGetResponse;
+import com.energia.resourcemanagement.dto.response.BatchMutationResponse;
+import com.energia.resourcemanagement.dto.response.BatchOperationResult;
+import com.energia.resourcemanagement.dto.response.CursorPageResponse;
 import com.energia.resourcemanagement.dto.response.ResourceResponse;
+import com.energia.resourcemanagement.dto.response.SliceResponse;
 import com.energia.resourcemanagement.exception.DuplicateCharacteristicException;
+import com.energia.resourcemanagement.exception.InvalidCursorException;
 import com.energia.resourcemanagement.exception.ResourceNotFoundException;
 import com.energia.resourcemanagement.kafka.event.ResourceEvent;
+import com.energia.resourcemanagement.kafka.outbox.ResourceEventOutbox;
 import com.energia.resourcemanagement.kafka.producer.ResourceEventProducer;
 import com.energia.resourcemanagement.mapper.ResourceMapper;
+import com.energia.resourcemanagement.mapper.ResourceResponseAssembler;
+import com.energia.resourcemanagement.repository.ExportCheckpointRepository;
+import com.energia.resourcemanagement.repository.ResourceDeletionRepository;
 import com.energia.resourcemanagement.repository.ResourceRepository;
+import com.energia.resourcemanagement.service.cache.ResourceCountEstimator;
+import com.energia.resourcemanagement.service.cache.ResourceResponseCache;
+import com.energia.resourcemanagement.service.export.DeltaExportFilter;
+import com.energia.resourcemanagement.service.export.ExportCursor;
+import com.energia.resourcemanagement.service.export.ExportPartition;
+import com.energia.resourcemanagement.service.export.ExportProgress;
+import com.energia.resourcemanagement.service.export.ResourceExportReader;
 import com.energia.resourcemanagement.service.impl.ResourceServiceImpl;
+import com.energia.resourcemanagement.service.pagination.ResourceCursor;
+import com.energia.resourcemanagement.service.projection.FieldSelection;
+import com.energia.resourcemanagement.service.projection.ResourceProjectionQuery;
+import com.energia.resourcemanagement.service.stats.ResourceStatistics;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -29,16 +57,31 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,9 +93,42 @@ class ResourceServiceTest {
     @Mock
     private ResourceMapper resourceMapper;
 
+    @Mock
+    private ResourceResponseAssembler responseAssembler;
+
     @Mock
     private ResourceEventProducer eventProducer;
 
+    @Mock
+    private ResourceEventOutbox eventOutbox;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ExportCheckpointRepository exportCheckpointRepository;
+
+    @Mock
+    private ResourceDeletionRepository resourceDeletionRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ResourceExportReader exportReader;
+
+    @Mock
+    private ResourceResponseCache resourceCache;
+
+    @Mock
+    private ResourceCountEstimator countEstimator;
+
+    @Mock
+    private ResourceStatistics resourceStatistics;
+
+    @Mock
+    private ResourceProjectionQuery projectionQuery;
+
     @InjectMocks
     private ResourceServiceImpl resourceService;
 
@@ -139,7 +215,7 @@ class ResourceServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(resourceId);
         verify(resourceRepository).save(any(Resource.class));
-        verify(eventProducer).sendResourceEvent(any(ResourceEvent.class));
+        verify(eventOutbox).append(any(ResourceEvent.class));
     }
 
     @Test
@@ -175,22 +251,109 @@ class ResourceServiceTest {
         when(resourceRepository.findByIdWithCharacteristics(resourceId)).thenReturn(Optional.of(resource));
         when(resourceMapper.toResponse(resource)).thenReturn(resourceResponse);
 
-        ResourceResponse result = resourceService.getResource(resourceId);
+        ResourceResponse result = resourceService.getResource(resourceId, null, null);
 
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(resourceId);
         verify(resourceRepository).findByIdWithCharacteristics(resourceId);
+        verify(resourceCache).put(resourceResponse);
+    }
+
+    @Test
+    void getResource_CacheHit_SkipsRepository() {
+        when(resourceCache.get(resourceId, null)).thenReturn(Optional.of(resourceResponse));
+
+        ResourceResponse result = resourceService.getResource(resourceId, null, null);
+
+        assertThat(result).isSameAs(resourceResponse);
+        verifyNoInteractions(resourceRepository, resourceMapper);
+    }
+
+    @Test
+    void getResource_WithFields_ReadsProjectionAndSkipsCachePut() {
+        ResourceResponse partial = ResourceResponse.builder().id(resourceId).countryCode("EE").version(0L).build();
+        when(resourceCache.get(resourceId, null)).thenReturn(Optional.empty());
+        when(projectionQuery.findById(eq(resourceId), any(FieldSelection.class))).thenReturn(Optional.of(partial));
+
+        ResourceResponse result = resourceService.getResource(resourceId, "countryCode", null);
+
+        assertThat(result).isSameAs(partial);
+        verifyNoInteractions(resourceRepository);
+        verify(resourceCache, never()).put(any());
+    }
+
+    @Test
+    void getResource_WithFields_CacheHitIsPruned() {
+        when(resourceCache.get(resourceId, null)).thenReturn(Optional.of(resourceResponse));
+
+        ResourceResponse result = resourceService.getResource(resourceId, "type", null);
+
+        assertThat(result.getType()).isEqualTo(ResourceType.METERING_POINT);
+        assertThat(result.getLocation()).isNull();
+        assertThat(resourceResponse.getLocation()).isNotNull();
+        verifyNoInteractions(projectionQuery);
     }
 
     @Test
     void getResource_NotFound() {
         when(resourceRepository.findByIdWithCharacteristics(resourceId)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> resourceService.getResource(resourceId))
+        assertThatThrownBy(() -> resourceService.getResource(resourceId, null, null))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining(resourceId.toString());
     }
 
+    @Test
+    void getResources_LoadsCacheMissesWithOneQueryAndReportsMissingIds() {
+        UUID cachedId = UUID.randomUUID();
+        UUID deletedId = UUID.randomUUID();
+        UUID unknownId = UUID.randomUUID();
+        ResourceResponse cachedResponse = ResourceResponse.builder().id(cachedId).version(3L).build();
+        resourceResponse.setId(resourceId);
+
+        when(resourceCache.getAll(any())).thenReturn(Map.of(
+                cachedId, Optional.of(cachedResponse),
+                deletedId, Optional.empty()));
+        when(resourceRepository.findAllById(List.of(unknownId, resourceId))).thenReturn(List.of(resource));
+        when(responseAssembler.toResponses(List.of(resource))).thenReturn(List.of(resourceResponse));
+
+        BatchGetResponse result = resourceService.getResources(
+                List.of(unknownId, resourceId, cachedId, deletedId, resourceId));
+
+        assertThat(result.getResources()).containsExactly(resourceResponse, cachedResponse);
+        assertThat(result.getMissingIds()).containsExactly(unknownId, deletedId);
+        verify(resourceRepository, never()).findByIdWithCharacteristics(any());
+        verify(resourceCache).put(resourceResponse);
+    }
+
+    @Test
+    void getResources_AllCached_SkipsDatabase() {
+        when(resourceCache.getAll(any())).thenReturn(Map.of(resourceId, Optional.of(resourceResponse)));
+
+        BatchGetResponse result = resourceService.getResources(List.of(resourceId));
+
+        assertThat(result.getResources()).containsExactly(resourceResponse);
+        assertThat(result.getMissingIds()).isEmpty();
+        verifyNoInteractions(resourceRepository, responseAssembler);
+    }
+
+    @Test
+    void getTotalResourceCount_ReadsCountersInsteadOfCounting() {
+        when(resourceStatistics.totalResources()).thenReturn(100_000L);
+
+        assertThat(resourceService.getTotalResourceCount()).isEqualTo(100_000L);
+        verify(resourceRepository, never()).count();
+    }
+
+    @Test
+    void getResourceVersion_NotFound() {
+        when(resourceRepository.findVersionById(resourceId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> resourceService.getResourceVersion(resourceId))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(resourceRepository, never()).findByIdWithCharacteristics(any());
+    }
+
     @Test
     void getAllResources_WithAllFilters() {
         Pageable pageable = PageRequest.of(0, 20);
@@ -198,9 +361,9 @@ class ResourceServiceTest {
 
         when(resourceRepository.findByCountryCodeAndType("EE", ResourceType.METERING_POINT, pageable))
                 .thenReturn(resourcePage);
-        when(resourceMapper.toResponse(resource)).thenReturn(resourceResponse);
+        when(responseAssembler.toResponses(List.of(resource))).thenReturn(List.of(resourceResponse));
 
-        Page<ResourceResponse> result = resourceService.getAllResources("EE", "METERING_POINT", pageable);
+        Page<ResourceResponse> result = resourceService.getAllResources("EE", "METERING_POINT", null, null, pageable);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
@@ -213,9 +376,9 @@ class ResourceServiceTest {
         Page<Resource> resourcePage = new PageImpl<>(List.of(resource));
 
         when(resourceRepository.findByCountryCode("EE", pageable)).thenReturn(resourcePage);
-        when(resourceMapper.toResponse(resource)).thenReturn(resourceResponse);
+        when(responseAssembler.toResponses(List.of(resource))).thenReturn(List.of(resourceResponse));
 
-        Page<ResourceResponse> result = resourceService.getAllResources("EE", null, pageable);
+        Page<ResourceResponse> result = resourceService.getAllResources("EE", null, null, null, pageable);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
@@ -228,9 +391,9 @@ class ResourceServiceTest {
         Page<Resource> resourcePage = new PageImpl<>(List.of(resource));
 
         when(resourceRepository.findByType(ResourceType.METERING_POINT, pageable)).thenReturn(resourcePage);
-        when(resourceMapper.toResponse(resource)).thenReturn(resourceResponse);
+        when(responseAssembler.toResponses(List.of(resource))).thenReturn(List.of(resourceResponse));
 
-        Page<ResourceResponse> result = resourceService.getAllResources(null, "METERING_POINT", pageable);
+        Page<ResourceResponse> result = resourceService.getAllResources(null, "METERING_POINT", null, null, pageable);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
@@ -243,15 +406,141 @@ class ResourceServiceTest {
         Page<Resource> resourcePage = new PageImpl<>(List.of(resource));
 
         when(resourceRepository.findAll(pageable)).thenReturn(resourcePage);
-        when(resourceMapper.toResponse(resource)).thenReturn(resourceResponse);
+        when(responseAssembler.toResponses(List.of(resource))).thenReturn(List.of(resourceResponse));
 
-        Page<ResourceResponse> result = resourceService.getAllResources(null, null, pageable);
+        Page<ResourceResponse> result = resourceService.getAllResources(null, null, null, null, pageable);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
         verify(resourceRepository).findAll(pageable);
     }
 
+    @Test
+    void getAllResources_WithCharacteristicFilter() {
+        Pageable pageable = PageRequest.of(0, 20);
+        CharacteristicFilterRequest characteristics = CharacteristicFilterRequest.builder()
+                .characteristicType(CharacteristicType.CONNECTION_POINT_STATUS)
+                .characteristicValue("ACTIVE")
+                .build();
+
+        when(resourceRepository.searchByCharacteristic("EE", null,
+                CharacteristicType.CONNECTION_POINT_STATUS, null, "ACTIVE", pageable))
+                .thenReturn(new PageImpl<>(List.of(resource)));
+        when(responseAssembler.toResponses(List.of(resource))).thenReturn(List.of(resourceResponse));
+
+        Page<ResourceResponse> result = resourceService.getAllResources("EE", null, characteristics, null, pageable);
+
+        assertThat(result.getContent()).containsExactly(resourceResponse);
+        verify(resourceRepository, never()).findByCountryCode(any(), any(Pageable.class));
+    }
+
+    @Test
+    void getResourcesAfter_WithCharacteristicFilter() {
+        ResourceCursor cursor = new ResourceCursor(LocalDateTime.of(2024, 1, 1, 12, 0), UUID.randomUUID());
+        CharacteristicFilterRequest characteristics = CharacteristicFilterRequest.builder()
+                .characteristicCode("LVL")
+                .build();
+
+        when(resourceRepository.findKeysetPageAfterByCharacteristic(null, null, null, "LVL", null,
+                cursor.createdAt(), cursor.id(), PageRequest.ofSize(21)))
+                .thenReturn(List.of());
+
+        CursorPageResponse<ResourceResponse> result =
+                resourceService.getResourcesAfter(null, null, characteristics, null, cursor.encode(), 20);
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getAllResources_WithFields_UsesProjection() {
+        Pageable pageable = PageRequest.of(0, 10);
+        ResourceResponse partial = ResourceResponse.builder().id(resourceId).type(ResourceType.METERING_POINT).build();
+        when(projectionQuery.findPage(eq("EE"), isNull(), isNull(), any(FieldSelection.class), eq(0L), eq(10), eq(pageable.getSort())))
+                .thenReturn(List.of(partial));
+
+        Page<ResourceResponse> result = resourceService.getAllResources("EE", null, null, "type", pageable);
+
+        assertThat(result.getContent()).containsExactly(partial);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verify(resourceRepository, never()).findByCountryCode(anyString(), any(Pageable.class));
+        verifyNoInteractions(responseAssembler);
+    }
+
+    @Test
+    void getResourceSlice_SkipsCountUnlessTotalRequested() {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(resourceRepository.findSliceByType(ResourceType.METERING_POINT, pageable))
+                .thenReturn(new SliceImpl<>(List.of(resource), pageable, true));
+        when(responseAssembler.toResponses(List.of(resource))).thenReturn(List.of(resourceResponse));
+
+        SliceResponse<ResourceResponse> result =
+                resourceService.getResourceSlice(null, "METERING_POINT", null, null, pageable, false);
+
+        assertThat(result.getContent()).containsExactly(resourceResponse);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getApproximateTotal()).isNull();
+        verifyNoInteractions(countEstimator);
+        verify(resourceRepository, never()).findByType(any(), any(Pageable.class));
+    }
+
+    @Test
+    void getResourceSlice_WithApproximateTotal() {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(resourceRepository.findSliceBy(pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+        when(countEstimator.estimate(null, null, null)).thenReturn(1_000_000L);
+
+        SliceResponse<ResourceResponse> result = resourceService.getResourceSlice(null, null, null, null, pageable, true);
+
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getApproximateTotal()).isEqualTo(1_000_000L);
+    }
+
+    @Test
+    void getResourcesAfter_FirstPageHandsOutCursorOfLastRow() {
+        Resource older = Resource.builder()
+                .id(UUID.randomUUID())
+                .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build();
+        Resource oldest = Resource.builder()
+                .id(UUID.randomUUID())
+                .createdAt(LocalDateTime.of(2023, 1, 1, 12, 0))
+                .build();
+        when(resourceRepository.findKeysetPage("EE", null, PageRequest.ofSize(2)))
+                .thenReturn(List.of(older, oldest));
+        when(responseAssembler.toResponses(List.of(older))).thenReturn(List.of(resourceResponse));
+
+        CursorPageResponse<ResourceResponse> result = resourceService.getResourcesAfter("EE", null, null, null, "", 1);
+
+        assertThat(result.getContent()).containsExactly(resourceResponse);
+        assertThat(result.getSize()).isEqualTo(1);
+        assertThat(ResourceCursor.decode(result.getNextCursor()))
+                .isEqualTo(new ResourceCursor(older.getCreatedAt(), older.getId()));
+    }
+
+    @Test
+    void getResourcesAfter_ContinuesFromCursorAndEndsWithoutNext() {
+        ResourceCursor cursor = new ResourceCursor(LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123456000), UUID.randomUUID());
+        when(resourceRepository.findKeysetPageAfter(null, ResourceType.METERING_POINT,
+                cursor.createdAt(), cursor.id(), PageRequest.ofSize(21)))
+                .thenReturn(List.of(resource));
+        when(responseAssembler.toResponses(List.of(resource))).thenReturn(List.of(resourceResponse));
+
+        CursorPageResponse<ResourceResponse> result =
+                resourceService.getResourcesAfter(null, "METERING_POINT", null, null, cursor.encode(), 20);
+
+        assertThat(result.getContent()).containsExactly(resourceResponse);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getResourcesAfter_InvalidCursor() {
+        assertThatThrownBy(() -> resourceService.getResourcesAfter(null, null, null, null, "not-a-cursor", 20))
+                .isInstanceOf(InvalidCursorException.class);
+
+        verifyNoInteractions(resourceRepository);
+    }
+
     @Test
     void updateResource_Success() {
         when(resourceRepository.findByIdWithCharacteristics(resourceId)).thenReturn(Optional.of(resource));
@@ -270,7 +559,67 @@ class ResourceServiceTest {
 
         assertThat(result).isNotNull();
         verify(resourceRepository).save(resource);
-        verify(eventProducer).sendResourceEvent(any(ResourceEvent.class));
+        verify(resourceCache).putAfterCommit(resourceResponse);
+        verify(eventOutbox).append(any(ResourceEvent.class));
+    }
+
+    @Test
+    void updateResource_DiffsCharacteristicsByCodeAndType() {
+        UUID keptId = UUID.randomUUID();
+        UUID changedId = UUID.randomUUID();
+        Characteristic kept = Characteristic.builder().id(keptId).code("K1")
+                .type(CharacteristicType.CONSUMPTION_TYPE).value("same").build();
+        Characteristic changed = Characteristic.builder().id(changedId).code("C1")
+                .type(CharacteristicType.CHARGING_POINT).value("old").build();
+        Characteristic removed = Characteristic.builder().id(UUID.randomUUID()).code("R1")
+                .type(CharacteristicType.CONNECTION_POINT_STATUS).value("gone").build();
+        resource.addCharacteristic(kept);
+        resource.addCharacteristic(changed);
+        resource.addCharacteristic(removed);
+        CharacteristicDTO added = CharacteristicDTO.builder().code("A1")
+                .type(CharacteristicType.CHARGING_POINT).value("new").build();
+        UpdateResourceRequest request = UpdateResourceRequest.builder()
+                .characteristics(List.of(
+                        CharacteristicDTO.builder().code("K1").type(CharacteristicType.CONSUMPTION_TYPE).value("same").build(),
+                        CharacteristicDTO.builder().code("C1").type(CharacteristicType.CHARGING_POINT).value("new").build(),
+                        added))
+                .build();
+        when(resourceRepository.findByIdWithCharacteristics(resourceId)).thenReturn(Optional.of(resource));
+        when(resourceMapper.toCharacteristic(added)).thenReturn(Characteristic.builder()
+                .code("A1").type(CharacteristicType.CHARGING_POINT).value("new").build());
+        when(resourceRepository.save(resource)).thenReturn(resource);
+        when(resourceMapper.toResponse(resource)).thenReturn(resourceResponse);
+
+        resourceService.updateResource(resourceId, request, null);
+
+        assertThat(resource.getCharacteristics())
+                .extracting(Characteristic::getId, Characteristic::getCode, Characteristic::getValue)
+                .containsExactly(
+                        tuple(keptId, "K1", "same"),
+                        tuple(changedId, "C1", "new"),
+                        tuple(null, "A1", "new"));
+        assertThat(resource.getCharacteristics()).allSatisfy(c -> assertThat(c.getResource()).isSameAs(resource));
+        verify(resourceMapper, times(1)).toCharacteristic(any());
+        assertThat(resource.getUpdatedAt()).isNotNull();
+    }
+
+    @Test
+    void updateResource_UnchangedCharacteristicsLeaveResourceUntouched() {
+        resource.addCharacteristic(Characteristic.builder().id(UUID.randomUUID()).code("K1")
+                .type(CharacteristicType.CONSUMPTION_TYPE).value("same").build());
+        UpdateResourceRequest request = UpdateResourceRequest.builder()
+                .characteristics(List.of(CharacteristicDTO.builder().code("K1")
+                        .type(CharacteristicType.CONSUMPTION_TYPE).value("same").build()))
+                .build();
+        when(resourceRepository.findByIdWithCharacteristics(resourceId)).thenReturn(Optional.of(resource));
+        when(resourceRepository.save(resource)).thenReturn(resource);
+        when(resourceMapper.toResponse(resource)).thenReturn(resourceResponse);
+
+        resourceService.updateResource(resourceId, request, null);
+
+        assertThat(resource.getCharacteristics()).hasSize(1);
+        assertThat(resource.getUpdatedAt()).isNull();
+        verify(resourceMapper, never()).toCharacteristic(any());
     }
 
     @Test
@@ -282,7 +631,7 @@ class ResourceServiceTest {
                 .isInstanceOf(ObjectOptimisticLockingFailureException.class);
 
         verify(resourceRepository, never()).save(any());
-        verify(eventProducer, never()).sendResourceEvent(any());
+        verify(eventOutbox, never()).append(any());
     }
 
     @Test
@@ -301,9 +650,10 @@ class ResourceServiceTest {
         resourceService.deleteResource(resourceId);
 
         verify(resourceRepository).delete(resource);
+        verify(resourceCache).markDeletedAfterCommit(resourceId);
 
         ArgumentCaptor<ResourceEvent> eventCaptor = ArgumentCaptor.forClass(ResourceEvent.class);
-        verify(eventProducer).sendResourceEvent(eventCaptor.capture());
+        verify(eventOutbox).append(eventCaptor.capture());
 
         ResourceEvent capturedEvent = eventCaptor.getValue();
         assertThat(capturedEvent.getEventType()).isEqualTo(EventType.RESOURCE_DELETED);
@@ -320,18 +670,215 @@ class ResourceServiceTest {
         verify(resourceRepository, never()).delete(any());
     }
 
+    @Test
+    void applyBatch_ReportsEachOutcomeAndPublishesAfterFlush() {
+        UUID missingId = UUID.randomUUID();
+        CreateResourceRequest create = CreateResourceRequest.builder()
+                .type(ResourceType.CONNECTION_POINT)
+                .countryCode("FI")
+                .location(createRequest.getLocation())
+                .build();
+        Resource created = Resource.builder().id(UUID.randomUUID()).build();
+        ResourceResponse createdResponse = ResourceResponse.builder().id(created.getId()).version(0L).build();
+
+        when(resourceRepository.findAllByIdWithCharacteristics(Set.of(resourceId, missingId)))
+                .thenReturn(List.of(resource));
+        when(resourceMapper.toEntity(create)).thenReturn(created);
+        when(resourceRepository.save(created)).thenReturn(created);
+        when(resourceMapper.toResponse(created)).thenReturn(createdResponse);
+        when(resourceMapper.toResponse(resource)).thenReturn(resourceResponse);
+
+        BatchMutationResponse response = resourceService.applyBatch(List.of(
+                BatchOperation.builder().op(BatchOperationType.CREATE).create(create).build(),
+                BatchOperation.builder().op(BatchOperationType.UPDATE).id(resourceId).version(5L).update(updateRequest).build(),
+                BatchOperation.builder().op(BatchOperationType.DELETE).id(missingId).build(),
+                BatchOperation.builder().op(BatchOperationType.DELETE).id(resourceId).version(0L).build(),
+                BatchOperation.builder().op(BatchOperationType.UPDATE).id(resourceId).update(updateRequest).build(),
+                BatchOperation.builder().op(BatchOperationType.CREATE).build()));
+
+        assertThat(response.getResults()).extracting(BatchOperationResult::getStatus).containsExactly(
+                BatchOperationStatus.CREATED, BatchOperationStatus.CONFLICT, BatchOperationStatus.NOT_FOUND,
+                BatchOperationStatus.DELETED, BatchOperationStatus.NOT_FOUND, BatchOperationStatus.INVALID);
+        assertThat(response.getResults().get(0).getId()).isEqualTo(created.getId());
+        assertThat(response.getResults().get(1).getVersion()).isEqualTo(0L);
+
+        InOrder inOrder = inOrder(resourceRepository, eventOutbox);
+        inOrder.verify(resourceRepository).delete(resource);
+        inOrder.verify(resourceRepository).flush();
+        inOrder.verify(eventOutbox).appendAll(argThat(events -> events.size() == 2));
+        verify(resourceCache).putAfterCommit(createdResponse);
+        verify(resourceCache).markDeletedAfterCommit(resourceId);
+    }
+
+    @Test
+    void streamResources_MapsAndDetachesEachResource() {
+        when(resourceRepository.streamWithCharacteristics("EE", ResourceType.METERING_POINT))
+                .thenReturn(List.of(resource).stream());
+        when(resourceMapper.toResponse(resource)).thenReturn(resourceResponse);
+
+        List<ResourceResponse> streamed = new ArrayList<>();
+        long count = resourceService.streamResources("EE", ResourceType.METERING_POINT, streamed::add);
+
+        assertThat(count).isEqualTo(1);
+        assertThat(streamed).containsExactly(resourceResponse);
+        verify(entityManager).detach(resource);
+    }
+
+    @Test
+    void streamResourcePage_MapsInChunksAndClearsPersistenceContext() {
+        Pageable pageable = PageRequest.of(0, 501);
+        List<Resource> resources = new ArrayList<>();
+        for (int i = 0; i < 501; i++) {
+            resources.add(Resource.builder().id(UUID.randomUUID()).build());
+        }
+        when(resourceRepository.streamPage("EE", ResourceType.METERING_POINT, pageable))
+                .thenReturn(resources.stream());
+        when(responseAssembler.toResponses(anyList())).thenAnswer(invocation -> {
+            List<Resource> chunk = invocation.getArgument(0);
+            return chunk.stream().map(r -> resourceResponse).toList();
+        });
+
+        List<ResourceResponse> streamed = new ArrayList<>();
+        long count = resourceService.streamResourcePage(
+                "EE", ResourceType.METERING_POINT, null, null, pageable, streamed::add);
+
+        assertThat(count).isEqualTo(501);
+        assertThat(streamed).hasSize(501);
+        verify(responseAssembler, times(2)).toResponses(anyList());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void streamResourcePage_WithFields_PrunesResponsesAndSkipsCharacteristics() {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(resourceRepository.streamPage(null, null, pageable)).thenReturn(Stream.of(resource));
+        when(resourceMapper.toResponseWithoutCharacteristics(resource)).thenReturn(resourceResponse);
+
+        List<ResourceResponse> streamed = new ArrayList<>();
+        resourceService.streamResourcePage(null, null, null, FieldSelection.parse("countryCode"), pageable,
+                streamed::add);
+
+        assertThat(streamed).singleElement().satisfies(response -> {
+            assertThat(response.getId()).isEqualTo(resourceId);
+            assertThat(response.getCountryCode()).isEqualTo(resourceResponse.getCountryCode());
+            assertThat(response.getLocation()).isNull();
+            assertThat(response.getType()).isNull();
+        });
+        verifyNoInteractions(responseAssembler);
+    }
+
     @Test
     void exportAllToKafka_Success() {
-        List<Resource> resources = List.of(resource);
+        ExportPartition all = ExportPartition.split(1).get(0);
+        List<ResourceResponse> responses = List.of(resourceResponse);
+        UUID jobId = UUID.randomUUID();
+        ExportProgress progress = new ExportProgress(jobId);
+
+        when(exportCheckpointRepository.findByJobIdAndPartitionIndex(jobId, 0)).thenReturn(Optional.empty());
+        readerDelivers(all, null, progress, responses);
+        when(eventProducer.sendBulkExport(responses, progress)).thenReturn(CompletableFuture.completedFuture(512L));
+
+        long acknowledged = resourceService.exportAllToKafka(progress);
+
+        assertThat(acknowledged).isEqualTo(1);
+        verify(exportCheckpointRepository).upsert(jobId, 0, resourceId, null, 1L, 512L);
+    }
+
+    @Test
+    void exportAllToKafka_WithCheckpoint_ResumesAfterCursor() {
+        ExportPartition all = ExportPartition.split(1).get(0);
+        UUID jobId = UUID.randomUUID();
+        UUID cursor = UUID.randomUUID();
+        List<ResourceResponse> responses = List.of(resourceResponse);
+        ExportProgress progress = new ExportProgress(jobId);
+
+        when(exportCheckpointRepository.findByJobIdAndPartitionIndex(jobId, 0)).thenReturn(Optional.of(
+                ExportCheckpoint.builder().jobId(jobId).partitionIndex(0).lastResourceId(cursor)
+                        .rowsExported(40000).bytesSent(1000).build()));
+        readerDelivers(all, cursor, progress, responses);
+        when(eventProducer.sendBulkExport(responses, progress)).thenReturn(CompletableFuture.completedFuture(10L));
+
+        resourceService.exportAllToKafka(progress);
+
+        verify(exportCheckpointRepository).upsert(jobId, 0, resourceId, null, 40001L, 1010L);
+    }
+
+    @Test
+    void exportAllToKafka_ChunkNotAcknowledged_KeepsCheckpoint() {
+        ExportPartition all = ExportPartition.split(1).get(0);
+        List<ResourceResponse> responses = List.of(resourceResponse);
+        UUID jobId = UUID.randomUUID();
+        ExportProgress progress = new ExportProgress(jobId);
+
+        when(exportCheckpointRepository.findByJobIdAndPartitionIndex(jobId, 0)).thenReturn(Optional.empty());
+        readerDelivers(all, null, progress, responses);
+        when(eventProducer.sendBulkExport(responses, progress))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        assertThatThrownBy(() -> resourceService.exportAllToKafka(progress))
+                .hasRootCauseMessage("broker down");
+
+        verify(exportCheckpointRepository, never()).upsert(any(), anyInt(), any(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void exportPartitionToKafka_ImportsSnapshotBeforeReadingRange() {
+        ExportPartition partition = ExportPartition.split(2).get(1);
         List<ResourceResponse> responses = List.of(resourceResponse);
+        ExportProgress progress = new ExportProgress(UUID.randomUUID()).forPartition();
 
-        when(resourceRepository.findAllWithCharacteristics()).thenReturn(resources.stream());
-        when(resourceMapper.toResponseList(resources)).thenReturn(responses);
+        readerDelivers(partition, null, progress, responses);
+        when(eventProducer.sendBulkExport(responses, progress)).thenReturn(CompletableFuture.completedFuture(1L));
 
-        resourceService.exportAllToKafka();
+        long exported = resourceService.exportPartitionToKafka(partition, "00000003-0000001B-1", progress);
 
-        verify(eventProducer).sendBulkExport(responses);
+        assertThat(exported).isEqualTo(1);
+        InOrder inOrder = inOrder(jdbcTemplate, exportReader);
+        inOrder.verify(jdbcTemplate).execute("SET TRANSACTION SNAPSHOT '00000003-0000001B-1'");
+        inOrder.verify(exportReader).read(eq(partition), isNull(), anyInt(), eq(progress), any());
+        verify(eventProducer).sendBulkExport(responses, progress);
     }
 
+    @Test
+    void exportDeltaToKafka_SendsChangesThenTombstones() {
+        UUID jobId = UUID.randomUUID();
+        UUID deletedId = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 2, 3, 4);
+        LocalDateTime deletedAt = updatedAt.plusMinutes(1);
+        DeltaExportFilter filter = new DeltaExportFilter(updatedAt.minusDays(1), updatedAt.plusDays(1), "EE", null);
+        List<ResourceResponse> responses = List.of(resourceResponse);
+        ExportProgress progress = new ExportProgress(jobId);
+
+        when(exportReader.readChanged(eq(filter), isNull(), anyInt(), eq(progress), any())).thenAnswer(invocation -> {
+            ResourceExportReader.ChunkHandler<ResourceResponse> handler = invocation.getArgument(4);
+            handler.handle(responses, new ExportCursor(resourceId, updatedAt));
+            return 1L;
+        });
+        when(exportReader.readDeletions(eq(filter), isNull(), anyInt(), eq(progress), any())).thenAnswer(invocation -> {
+            ResourceExportReader.ChunkHandler<UUID> handler = invocation.getArgument(4);
+            handler.handle(List.of(deletedId), new ExportCursor(deletedId, deletedAt));
+            return 1L;
+        });
+        when(eventProducer.sendBulkExport(responses, progress)).thenReturn(CompletableFuture.completedFuture(512L));
+        when(eventProducer.sendTombstones(List.of(deletedId), progress))
+                .thenReturn(CompletableFuture.completedFuture(0L));
+
+        long acknowledged = resourceService.exportDeltaToKafka(filter, progress);
+
+        assertThat(acknowledged).isEqualTo(2);
+        InOrder inOrder = inOrder(eventProducer);
+        inOrder.verify(eventProducer).sendBulkExport(responses, progress);
+        inOrder.verify(eventProducer).sendTombstones(List.of(deletedId), progress);
+        verify(exportCheckpointRepository).upsert(jobId, 0, resourceId, updatedAt, 1L, 512L);
+        verify(exportCheckpointRepository).upsert(jobId, 1, deletedId, deletedAt, 1L, 0L);
+    }
 
+    private void readerDelivers(ExportPartition partition, UUID after, ExportProgress progress,
+                                List<ResourceResponse> responses) {
+        when(exportReader.read(eq(partition), eq(after), anyInt(), eq(progress), any())).thenAnswer(invocation -> {
+            ResourceExportReader.ChunkHandler<ResourceResponse> handler = invocation.getArgument(4);
+            handler.handle(responses, ExportCursor.of(responses.get(responses.size() - 1).getId()));
+            return (long) responses.size();
+        });
+    }
 }
\ No newline at end of file
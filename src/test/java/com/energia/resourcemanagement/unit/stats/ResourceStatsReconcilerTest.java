@@ -0,0 +1,77 @@
+package com.energia.resourcemanagement.unit.stats;
+
+import com.energia.resourcemanagement.service.stats.ResourceStatsReconciler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceStatsReconcilerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ResourceStatsReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new ResourceStatsReconciler(jdbcTemplate, meterRegistry);
+        ReflectionTestUtils.invokeMethod(reconciler, "registerMetrics");
+    }
+
+    @Test
+    void reconcile_SkipsWhileAnotherInstanceHoldsTheLock() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), anyLong())).thenReturn(false);
+
+        reconciler.reconcile();
+
+        verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class));
+    }
+
+    @Test
+    void reconcile_NoDrift_WritesNothing() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), anyLong())).thenReturn(true);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenReturn(List.of());
+
+        reconciler.reconcile();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(meterRegistry.get("resource.stats.corrections").counter().count()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcile_BooksDriftAsCorrection() throws Exception {
+        ResultSet row = mock(ResultSet.class);
+        when(row.getString("dimension")).thenReturn("COUNTRY");
+        when(row.getString("bucket")).thenReturn("EE");
+        when(row.getLong("drift")).thenReturn(-2L);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), anyLong())).thenReturn(true);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenAnswer(invocation ->
+                List.of(invocation.<RowMapper<Object>>getArgument(1).mapRow(row, 0)));
+
+        reconciler.reconcile();
+
+        verify(jdbcTemplate).batchUpdate(contains("ON CONFLICT"), argThat((List<Object> drifts) -> drifts.size() == 1),
+                eq(1), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(meterRegistry.get("resource.stats.corrections").counter().count()).isEqualTo(1);
+    }
+}